@@ -24,14 +24,45 @@ repositories {
     mavenCentral()
 }
 
+// JMH micro-benchmarks in src/jmh/java, compiled against the main classes; run with ./gradlew jmh
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+configurations[jmh.compileOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+configurations[jmh.annotationProcessorConfigurationName].extendsFrom(configurations.annotationProcessor.get())
+
+// HTTP load test in src/loadtest/java; boots the app on the H2 test profile, run with ./gradlew loadTest
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+    // application-test.properties
+    runtimeClasspath += files(sourceSets.test.get().output.resourcesDir)
+}
+
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+// Mockito is loaded as an agent up front rather than attaching itself, which JDK 21 warns about
+val mockitoAgent = configurations.create("mockitoAgent")
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aspectj")
     implementation("com.fasterxml.jackson.core:jackson-databind")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-csv")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
     implementation("org.mapstruct:mapstruct:1.6.3")
 
     developmentOnly("org.springframework.boot:spring-boot-devtools")
@@ -45,14 +76,62 @@ dependencies {
     compileOnly("org.projectlombok:lombok")
 
     runtimeOnly("org.postgresql:postgresql")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     testImplementation("org.springframework.boot:spring-boot-starter-data-jpa-test")
     testImplementation("org.springframework.boot:spring-boot-starter-webmvc-test")
     testImplementation("com.h2database:h2")
 
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    mockitoAgent("org.mockito:mockito-core") { isTransitive = false }
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhImplementation"("org.springframework:spring-test")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+
+    "loadtestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+    "loadtestRuntimeOnly"("com.h2database:h2")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
+    // Class data sharing is off because the agent appends to the boot class path, which the JVM also warns about
+    jvmArgs("-javaagent:${mockitoAgent.asPath}", "-Xshare:off")
+}
+
+// ./gradlew jmh [-Pjmh.includes=<regex>] [-Pjmh.args="-f 1 -wi 2"]; results go to build/reports/jmh/results.json
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks and writes the results as JSON."
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(results)
+    outputs.upToDateWhen { false }
+    args(providers.gradleProperty("jmh.includes").orNull ?: ".*")
+    args(providers.gradleProperty("jmh.args").orNull?.split(" ")?.filter { it.isNotBlank() } ?: emptyList<String>())
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf("-rf", "json", "-rff", results.get().asFile.absolutePath)
+    })
+    doFirst { results.get().asFile.parentFile.mkdirs() }
+}
+
+// ./gradlew loadTest [-Pload.rate=100] [-Pload.duration=60s] [-Pload.warmup=10s] [-Pload.users=20] [-Pload.url=http://...]
+//                    [-Pload.login-share=2] [-Pload.app-args="--name=value ..."]
+// Results go to build/reports/loadtest (summary.json plus one .hgrm histogram per endpoint)
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs the HTTP load test and writes a JSON summary with per-endpoint latency histograms."
+    group = "verification"
+    dependsOn(tasks.processTestResources)
+    classpath = loadtest.runtimeClasspath
+    mainClass = "dev.jade.todolist.loadtest.LoadTest"
+
+    val output = layout.buildDirectory.dir("reports/loadtest")
+    outputs.dir(output)
+    outputs.upToDateWhen { false }
+    systemProperty("load.output", output.get().asFile.absolutePath)
+    listOf("load.url", "load.users", "load.rate", "load.warmup", "load.duration", "load.login-share", "load.app-args").forEach { name ->
+        providers.gradleProperty(name).orNull?.let { systemProperty(name, it) }
+    }
 }
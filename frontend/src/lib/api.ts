@@ -23,7 +23,7 @@ import type {
   SectionPayload,
   SectionResponse
 } from "@/types/api";
-import { deleteValidated, getValidated, postNoContent, postValidated, putValidated } from "@/lib/http";
+import { deleteValidated, getAllPagesValidated, postNoContent, postValidated, putValidated } from "@/lib/http";
 import { z } from "zod";
 
 export const authApi = {
@@ -40,7 +40,7 @@ export const authApi = {
 
 export const sectionApi = {
   list(): Promise<SectionResponse[]> {
-    return getValidated("/api/sections", sectionListSchema);
+    return getAllPagesValidated("/api/sections", sectionListSchema);
   },
   create(payload: SectionPayload): Promise<SectionResponse> {
     return postValidated("/api/sections", payload, sectionPayloadSchema, sectionResponseSchema);
@@ -55,7 +55,7 @@ export const sectionApi = {
 
 export const parentTaskApi = {
   list(sectionId: number): Promise<ParentTaskResponse[]> {
-    return getValidated(`/api/sections/${sectionId}/parent-tasks`, parentTaskListSchema);
+    return getAllPagesValidated(`/api/sections/${sectionId}/parent-tasks`, parentTaskListSchema);
   },
   create(sectionId: number, payload: ParentTaskPayload): Promise<ParentTaskResponse> {
     return postValidated(
@@ -80,7 +80,7 @@ export const parentTaskApi = {
 
 export const childTaskApi = {
   list(sectionId: number, parentTaskId: number): Promise<ChildTaskResponse[]> {
-    return getValidated(
+    return getAllPagesValidated(
       `/api/sections/${sectionId}/parent-tasks/${parentTaskId}/child-tasks`,
       childTaskListSchema
     );
@@ -106,6 +106,24 @@ export async function getValidated<T>(url: string, schema: ZodType<T, ZodTypeDef
   return schema.parse(response.data);
 }
 
+const NEXT_CURSOR_HEADER = "x-next-cursor";
+const PAGE_LIMIT = 200;
+
+export async function getAllPagesValidated<T>(
+  url: string,
+  schema: ZodType<T[], ZodTypeDef, unknown>
+): Promise<T[]> {
+  const items: T[] = [];
+  let cursor: string | undefined;
+  do {
+    const response = await http.get<unknown>(url, { params: { limit: PAGE_LIMIT, cursor } });
+    items.push(...schema.parse(response.data));
+    const next: unknown = response.headers[NEXT_CURSOR_HEADER];
+    cursor = typeof next === "string" && next.length > 0 ? next : undefined;
+  } while (cursor);
+  return items;
+}
+
 export async function postValidated<TPayload, TResponse>(
   url: string,
   payload: TPayload,
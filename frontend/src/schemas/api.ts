@@ -23,6 +23,8 @@ export const authResponseSchema = z.object({
 export const sectionResponseSchema = z.object({
   sectionId: z.number(),
   sectionName: z.string(),
+  parentTaskCount: z.number().default(0),
+  completedParentTaskCount: z.number().default(0),
   createdAt: z.string().nullable(),
   updatedAt: z.string().nullable()
 });
@@ -31,6 +33,8 @@ export const parentTaskResponseSchema = z
   .object({
     parentTaskId: z.number(),
     parentTaskTitle: z.string(),
+    childCount: z.number().default(0),
+    completedChildCount: z.number().default(0),
     deadline: z.string().nullable(),
     priority: prioritySchema.nullable(),
     isCompleted: z.boolean().optional(),
@@ -42,6 +46,8 @@ export const parentTaskResponseSchema = z
   .transform((data) => ({
     parentTaskId: data.parentTaskId,
     parentTaskTitle: data.parentTaskTitle,
+    childCount: data.childCount,
+    completedChildCount: data.completedChildCount,
     deadline: data.deadline,
     priority: data.priority,
     isCompleted: data.isCompleted ?? data.completed ?? false,
@@ -21,6 +21,8 @@ export interface AuthResponse {
 export interface SectionResponse {
   sectionId: number;
   sectionName: string;
+  parentTaskCount: number;
+  completedParentTaskCount: number;
   createdAt: string | null;
   updatedAt: string | null;
 }
@@ -28,6 +30,8 @@ export interface SectionResponse {
 export interface ParentTaskResponse {
   parentTaskId: number;
   parentTaskTitle: string;
+  childCount: number;
+  completedChildCount: number;
   deadline: string | null;
   priority: Priority | null;
   isCompleted: boolean;
@@ -0,0 +1,63 @@
+package dev.jade.todolist.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.jade.todolist.dtos.config.JacksonConfig;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Priority;
+import dev.jade.todolist.models.Section;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Entities and requests shaped like the ones the API handles, built without a database.
+ */
+final class BenchmarkData {
+
+    static final ObjectMapper OBJECT_MAPPER = new JacksonConfig().objectMapper();
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private BenchmarkData() {
+    }
+
+    static ParentTask parentTask(long id) {
+        Section section = new Section();
+        section.setSectionId(1L);
+        section.setSectionName("Section");
+
+        ParentTask parentTask = new ParentTask();
+        parentTask.setParentTaskId(id);
+        parentTask.setParentTaskTitle("Parent task " + id);
+        parentTask.setPriority(Priority.MEDIUM);
+        parentTask.setDeadline(NOW.plus(7, ChronoUnit.DAYS));
+        parentTask.setCompleted(id % 3 == 0);
+        parentTask.setChildCount(5);
+        parentTask.setCompletedChildCount(2);
+        parentTask.setCreatedAt(NOW);
+        parentTask.setUpdatedAt(NOW);
+        parentTask.setSection(section);
+        return parentTask;
+    }
+
+    static ChildTask childTask(long id) {
+        ChildTask childTask = new ChildTask();
+        childTask.setChildTaskId(id);
+        childTask.setChildTaskTitle("Child task " + id);
+        childTask.setPriority(Priority.LOW);
+        childTask.setCompleted(id % 2 == 0);
+        childTask.setCreatedAt(NOW);
+        childTask.setUpdatedAt(NOW);
+        childTask.setParentTask(parentTask(id));
+        return childTask;
+    }
+
+    /**
+     * Requests are built the way Jackson builds them, since they have no setters.
+     */
+    static <T> T request(Map<String, Object> fields, Class<T> type) {
+        return OBJECT_MAPPER.convertValue(fields, type);
+    }
+}
@@ -0,0 +1,75 @@
+package dev.jade.todolist.benchmarks;
+
+import dev.jade.todolist.exceptions.ApiErrorResponse;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.exceptions.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning exceptions into {@link ApiErrorResponse} bodies in {@link GlobalExceptionHandler}, with and
+ * without writing the JSON. The not-found case includes creating the exception, stack trace and all,
+ * since that is what every request for a missing or foreign row pays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private MockHttpServletRequest request;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("PUT", "/api/sections/1/parent-tasks/2");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "parentTaskRequest");
+        bindingResult.addError(new FieldError(
+                "parentTaskRequest", "parentTaskTitle", "Title is required"));
+        bindingResult.addError(new FieldError(
+                "parentTaskRequest", "deadline", "Deadline must be in the future"));
+        MethodParameter parameter = new MethodParameter(
+                ErrorResponseBenchmark.class.getDeclaredMethod("setUp"), -1);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> notFound() {
+        return handler.handleNotFound(new EntityNotFoundException("ParentTask", "id", 2L), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> validationFailed() {
+        return handler.handleValidation(validationException, request);
+    }
+
+    @Benchmark
+    public void notFoundSerialized() throws IOException {
+        ResponseEntity<ApiErrorResponse> response =
+                handler.handleNotFound(new EntityNotFoundException("ParentTask", "id", 2L), request);
+        BenchmarkData.OBJECT_MAPPER.writeValue(OutputStream.nullOutputStream(), response.getBody());
+    }
+}
@@ -0,0 +1,64 @@
+package dev.jade.todolist.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.mapstruct.mappers.ParentTaskMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a parent task list page through the application's {@code JacksonConfig} mapper.
+ * Output goes to a discarding stream, so buffer growth is not part of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    // 50 is the default page size, 200 the maximum
+    @Param({"50", "200", "1000"})
+    public int size;
+
+    private final ObjectWriter writer = BenchmarkData.OBJECT_MAPPER.writerFor(ParentTaskResponse.class.arrayType());
+
+    private ParentTaskResponse[] page;
+
+    @Setup
+    public void setUp() {
+        ParentTaskMapper mapper = Mappers.getMapper(ParentTaskMapper.class);
+        List<ParentTaskResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(mapper.toResponse(BenchmarkData.parentTask(i)));
+        }
+        page = responses.toArray(ParentTaskResponse[]::new);
+    }
+
+    @Benchmark
+    public void serializeParentTaskPage() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public String serializeParentTaskPageToString() throws IOException {
+        return writer.writeValueAsString(page);
+    }
+}
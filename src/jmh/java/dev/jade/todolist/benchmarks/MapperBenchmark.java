@@ -0,0 +1,78 @@
+package dev.jade.todolist.benchmarks;
+
+import dev.jade.todolist.dtos.requests.ChildTaskRequest;
+import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.mapstruct.mappers.ChildTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.ParentTaskMapper;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-item cost of the MapStruct mappers used on every task read and update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ParentTaskMapper parentTaskMapper = Mappers.getMapper(ParentTaskMapper.class);
+    private final ChildTaskMapper childTaskMapper = Mappers.getMapper(ChildTaskMapper.class);
+
+    private ParentTask parentTask;
+    private ChildTask childTask;
+    private ParentTaskRequest parentTaskRequest;
+    private ChildTaskRequest childTaskRequest;
+
+    @Setup
+    public void setUp() {
+        parentTask = BenchmarkData.parentTask(1);
+        childTask = BenchmarkData.childTask(1);
+        parentTaskRequest = BenchmarkData.request(
+                Map.of("parentTaskTitle", "Updated parent", "priority", "HIGH", "isCompleted", true),
+                ParentTaskRequest.class);
+        childTaskRequest = BenchmarkData.request(
+                Map.of("childTaskTitle", "Updated child", "priority", "HIGH", "isCompleted", true),
+                ChildTaskRequest.class);
+    }
+
+    @Benchmark
+    public ParentTaskResponse parentTaskToResponse() {
+        return parentTaskMapper.toResponse(parentTask);
+    }
+
+    @Benchmark
+    public ParentTask parentTaskUpdateFromRequest() {
+        parentTaskMapper.updateEntityFromRequest(parentTaskRequest, parentTask);
+        return parentTask;
+    }
+
+    @Benchmark
+    public ChildTaskResponse childTaskToResponse() {
+        return childTaskMapper.toResponse(childTask);
+    }
+
+    @Benchmark
+    public ChildTask childTaskUpdateFromRequest() {
+        childTaskMapper.updateEntityFromRequest(childTaskRequest, childTask);
+        return childTask;
+    }
+}
@@ -0,0 +1,82 @@
+package dev.jade.todolist.benchmarks;
+
+import dev.jade.todolist.dtos.requests.AuthRequest;
+import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of request bodies, as {@code @Valid} runs it on every write. Invalid requests
+ * are measured separately because building violations and interpolating messages costs more.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private AuthRequest validAuthRequest;
+    private AuthRequest invalidAuthRequest;
+    private ParentTaskRequest validParentTaskRequest;
+    private ParentTaskRequest invalidParentTaskRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validAuthRequest = new AuthRequest("jade@example.com", "jade_user", "Passw0rdExample");
+        invalidAuthRequest = new AuthRequest("not-an-email", "j", "short");
+        validParentTaskRequest = BenchmarkData.request(
+                Map.of("parentTaskTitle", "Parent", "priority", "LOW"), ParentTaskRequest.class);
+        invalidParentTaskRequest = BenchmarkData.request(
+                Map.of("parentTaskTitle", " ", "deadline", "2000-01-01T00:00:00Z"), ParentTaskRequest.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AuthRequest>> validAuthRequest() {
+        return validator.validate(validAuthRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AuthRequest>> invalidAuthRequest() {
+        return validator.validate(invalidAuthRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ParentTaskRequest>> validParentTaskRequest() {
+        return validator.validate(validParentTaskRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ParentTaskRequest>> invalidParentTaskRequest() {
+        return validator.validate(invalidParentTaskRequest);
+    }
+}
@@ -0,0 +1,119 @@
+package dev.jade.todolist.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per endpoint (method plus path template).
+ * <p>
+ * Latency is measured from when a request was scheduled to start, not from when it was sent, so a
+ * stalled server shows up in the percentiles instead of silently lowering the offered load.
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private volatile long measureFrom = Long.MIN_VALUE;
+
+    /**
+     * Ignores requests scheduled before {@code nanoTime}, to leave out the warm-up.
+     */
+    void measureFrom(long nanoTime) {
+        measureFrom = nanoTime;
+    }
+
+    void record(String endpoint, long scheduledAt, long latencyNanos, boolean success) {
+        if (measureFrom != Long.MIN_VALUE && scheduledAt - measureFrom < 0)
+            return;
+
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_MICROS));
+        if (!success)
+            stats.errors.increment();
+    }
+
+    /**
+     * @param seconds length of the measured window, for throughput
+     */
+    Map<String, Summary> summarize(double seconds) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_MICROS, 3);
+        long totalErrors = 0;
+
+        for (String name : endpoints.keySet().stream().sorted().toList()) {
+            Endpoint stats = endpoints.get(name);
+            summaries.put(name, Summary.of(stats.histogram, stats.errors.sum(), seconds));
+            total.add(stats.histogram);
+            totalErrors += stats.errors.sum();
+        }
+        summaries.put("TOTAL", Summary.of(total, totalErrors, seconds));
+        return summaries;
+    }
+
+    /**
+     * Writes each endpoint's full percentile distribution in the HdrHistogram text format (.hgrm),
+     * which the HdrHistogram plotter reads.
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            String fileName = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+                entry.getValue().histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static final class Endpoint {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * Latencies in milliseconds.
+     */
+    record Summary(
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double mean,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max) {
+
+        private static Summary of(Histogram histogram, long errors, double seconds) {
+            return new Summary(
+                    histogram.getTotalCount(),
+                    errors,
+                    round(histogram.getTotalCount() / seconds),
+                    round(histogram.getMean() / 1000.0),
+                    millis(histogram, 50),
+                    millis(histogram, 90),
+                    millis(histogram, 99),
+                    millis(histogram, 99.9),
+                    round(histogram.getMaxValue() / 1000.0));
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
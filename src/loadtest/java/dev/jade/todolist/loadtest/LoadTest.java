@@ -0,0 +1,188 @@
+package dev.jade.todolist.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.jade.todolist.ToDoListApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load test against the real endpoints.
+ * <p>
+ * Boots the application on the H2 {@code test} profile (or targets {@code load.url}), signs in
+ * {@code load.users} users, then starts workload steps at a fixed {@code load.rate} per second for
+ * {@code load.warmup} plus {@code load.duration}. Each step runs on its own virtual thread, so a slow
+ * server does not slow down the arrivals (open model). Prints a per-endpoint table and writes
+ * {@code summary.json} and one {@code .hgrm} histogram per endpoint to {@code load.output}.
+ * <p>
+ * Run with {@code ./gradlew loadTest -Pload.rate=200 -Pload.duration=60s}.
+ * <p>
+ * {@code load.login-share} sets the percentage of steps that are logins (default 2). To see what
+ * offloading password hashing does for the other endpoints during a login storm, run a login-heavy
+ * mix twice and compare their p99s:
+ * <pre>
+ * ./gradlew loadTest -Pload.login-share=30 -Pload.app-args="--app.security.password-hashing.offload=false"
+ * ./gradlew loadTest -Pload.login-share=30 -Pload.app-args="--app.security.password-hashing.offload=true"
+ * </pre>
+ * Add {@code --spring.threads.virtual.enabled=true} to both for the virtual-thread mode.
+ * {@code load.app-args} only applies when the application is booted here, not with {@code load.url}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("load.url", "");
+        int users = Integer.getInteger("load.users", 20);
+        int rate = Integer.getInteger("load.rate", 100);
+        int loginShare = Integer.getInteger("load.login-share", 2);
+        String appArgs = System.getProperty("load.app-args", "");
+        Duration warmup = duration("load.warmup", "10s");
+        Duration duration = duration("load.duration", "60s");
+        Path output = Path.of(System.getProperty("load.output", "build/reports/loadtest"));
+
+        ConfigurableApplicationContext context = null;
+        if (url.isBlank()) {
+            SpringApplication application = new SpringApplication(ToDoListApplication.class);
+            application.setAdditionalProfiles("test");
+            List<String> arguments = new ArrayList<>(List.of("--server.port=0"));
+            arguments.addAll(Arrays.stream(appArgs.split(" ")).filter(arg -> !arg.isBlank()).toList());
+            context = application.run(arguments.toArray(String[]::new));
+            url = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            EndpointStats setupStats = new EndpointStats();
+            EndpointStats stats = new EndpointStats();
+
+            List<LoadTestUser> loadTestUsers = new ArrayList<>();
+            List<Future<?>> setUps = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                LoadTestUser user = new LoadTestUser(url, loginShare, setupStats, stats, virtualThreads);
+                loadTestUsers.add(user);
+                setUps.add(virtualThreads.submit(() -> {
+                    user.setUp();
+                    return null;
+                }));
+            }
+            for (Future<?> setUp : setUps) {
+                setUp.get();
+            }
+
+            System.out.printf("Running %d steps/s against %s with %d users: %s warm-up, %s measured%n",
+                    rate, url, users, warmup, duration);
+            LongAdder clientErrors = run(loadTestUsers, stats, rate, warmup, duration, virtualThreads);
+
+            Map<String, EndpointStats.Summary> setup = setupStats.summarize(duration.toMillis() / 1000.0);
+            Map<String, EndpointStats.Summary> endpoints = stats.summarize(duration.toMillis() / 1000.0);
+            print(endpoints);
+            if (clientErrors.sum() > 0)
+                System.out.printf("%d steps failed in the client; see stderr%n", clientErrors.sum());
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("url", url);
+            config.put("users", users);
+            config.put("ratePerSecond", rate);
+            config.put("loginSharePercent", loginShare);
+            config.put("appArgs", appArgs);
+            config.put("warmupSeconds", warmup.toSeconds());
+            config.put("durationSeconds", duration.toSeconds());
+
+            stats.writeHistograms(output.resolve("histograms"));
+            new ObjectMapper()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(output.resolve("summary.json").toFile(),
+                            new Report(Instant.now().toString(), config, clientErrors.sum(), setup, endpoints));
+            System.out.println("Summary written to " + output.resolve("summary.json").toAbsolutePath());
+        } finally {
+            if (context != null)
+                context.close();
+        }
+    }
+
+    private static LongAdder run(
+            List<LoadTestUser> users,
+            EndpointStats stats,
+            int rate,
+            Duration warmup,
+            Duration duration,
+            ExecutorService virtualThreads) {
+
+        LongAdder clientErrors = new LongAdder();
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + warmup.toNanos() + duration.toNanos();
+        stats.measureFrom(start + warmup.toNanos());
+
+        List<Future<?>> steps = new ArrayList<>();
+        for (long i = 0; ; i++) {
+            long scheduledAt = start + i * interval;
+            if (scheduledAt - end >= 0)
+                break;
+
+            long delay = scheduledAt - System.nanoTime();
+            if (delay > 0)
+                LockSupport.parkNanos(delay);
+
+            LoadTestUser user = users.get((int) (i % users.size()));
+            steps.add(virtualThreads.submit(() -> {
+                try {
+                    user.runStep(scheduledAt);
+                } catch (Exception ex) {
+                    clientErrors.increment();
+                    System.err.println("Step failed: " + ex);
+                }
+            }));
+        }
+
+        // Wait for the requests still in flight; their latency counts
+        for (Future<?> step : steps) {
+            try {
+                step.get();
+            } catch (Exception ex) {
+                clientErrors.increment();
+            }
+        }
+        return clientErrors;
+    }
+
+    private static void print(Map<String, EndpointStats.Summary> endpoints) {
+        System.out.printf("%-66s %8s %6s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        endpoints.forEach((name, summary) -> System.out.printf("%-66s %8d %6d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                summary.p50(), summary.p90(), summary.p99(), summary.max()));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        String value = System.getProperty(property, defaultValue).trim().toUpperCase();
+        return Duration.parse(value.startsWith("P") ? value : "PT" + value);
+    }
+
+    /**
+     * The machine-readable result; keys are stable so summaries from two builds can be diffed.
+     */
+    record Report(
+            String finishedAt,
+            Map<String, Object> config,
+            long clientErrors,
+            Map<String, EndpointStats.Summary> setup,
+            Map<String, EndpointStats.Summary> endpoints) {
+    }
+}
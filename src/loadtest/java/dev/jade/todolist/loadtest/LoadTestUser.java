@@ -0,0 +1,239 @@
+package dev.jade.todolist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One signed-in user with its own cookie jar, one section and the tasks it has created so far.
+ * Every call records its latency under the endpoint's path template.
+ */
+final class LoadTestUser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String PASSWORD = "LoadTest-Passw0rd";
+
+    private final String baseUrl;
+    private final EndpointStats setupStats;
+    private final EndpointStats stats;
+    private final HttpClient client;
+    private final int loginShare;
+    private final String email = "load-" + UUID.randomUUID() + "@example.com";
+
+    private final List<Long> parentTaskIds = new CopyOnWriteArrayList<>();
+    private final List<long[]> childTasks = new CopyOnWriteArrayList<>();
+    private volatile long sectionId;
+
+    private volatile EndpointStats recording;
+
+    LoadTestUser(String baseUrl, int loginShare, EndpointStats setupStats, EndpointStats stats, ExecutorService executor) {
+        this.baseUrl = baseUrl;
+        this.loginShare = loginShare;
+        this.setupStats = setupStats;
+        this.stats = stats;
+        this.recording = setupStats;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Registers, signs in again and creates the section and a first parent task the workload runs
+     * against. These calls are recorded in the setup stats, not the workload's.
+     */
+    void setUp() throws IOException, InterruptedException {
+        recording = setupStats;
+        send(System.nanoTime(), "POST /api/auth/register", "POST", "/api/auth/register",
+                Map.of("email", email, "username", "load_user", "password", PASSWORD));
+        login(System.nanoTime());
+
+        JsonNode section = send(System.nanoTime(), "POST /api/sections", "POST", "/api/sections",
+                Map.of("sectionName", "Load test"));
+        if (section == null)
+            throw new IllegalStateException("Could not set up load test user " + email);
+        sectionId = section.get("sectionId").asLong();
+        createParentTask(System.nanoTime());
+        recording = stats;
+    }
+
+    /**
+     * Runs one randomly chosen step of the workload, timed from {@code scheduledAt}. {@code loginShare}
+     * percent of the steps are logins; the rest keep the same mix among themselves.
+     */
+    void runStep(long scheduledAt) throws IOException, InterruptedException {
+        if (ThreadLocalRandom.current().nextInt(100) < loginShare) {
+            login(scheduledAt);
+            return;
+        }
+
+        int roll = ThreadLocalRandom.current().nextInt(98);
+        if (roll < 20)
+            send(scheduledAt, "GET /api/sections", "GET", "/api/sections", null);
+        else if (roll < 40)
+            send(scheduledAt, "GET /api/sections/{id}/parent-tasks", "GET", parentTasksPath(), null);
+        else if (roll < 50)
+            listChildTasks(scheduledAt);
+        else if (roll < 60)
+            createParentTask(scheduledAt);
+        else if (roll < 72)
+            createChildTask(scheduledAt);
+        else if (roll < 80)
+            updateParentTask(scheduledAt);
+        else if (roll < 90)
+            toggleCompletion(scheduledAt);
+        else if (roll < 95)
+            deleteChildTask(scheduledAt);
+        else
+            deleteParentTask(scheduledAt);
+    }
+
+    private void login(long scheduledAt) throws IOException, InterruptedException {
+        send(scheduledAt, "POST /api/auth/login", "POST", "/api/auth/login",
+                Map.of("email", email, "password", PASSWORD));
+    }
+
+    private void listChildTasks(long scheduledAt) throws IOException, InterruptedException {
+        Long parentTaskId = randomParentTask();
+        if (parentTaskId == null) {
+            createParentTask(scheduledAt);
+            return;
+        }
+        send(scheduledAt, "GET /api/sections/{id}/parent-tasks/{id}/child-tasks", "GET",
+                childTasksPath(parentTaskId), null);
+    }
+
+    private void createParentTask(long scheduledAt) throws IOException, InterruptedException {
+        JsonNode created = send(scheduledAt, "POST /api/sections/{id}/parent-tasks", "POST", parentTasksPath(),
+                Map.of("parentTaskTitle", "Parent task", "priority", "MEDIUM"));
+        if (created != null)
+            parentTaskIds.add(created.get("parentTaskId").asLong());
+    }
+
+    private void createChildTask(long scheduledAt) throws IOException, InterruptedException {
+        Long parentTaskId = randomParentTask();
+        if (parentTaskId == null) {
+            createParentTask(scheduledAt);
+            return;
+        }
+        JsonNode created = send(scheduledAt, "POST /api/sections/{id}/parent-tasks/{id}/child-tasks", "POST",
+                childTasksPath(parentTaskId), Map.of("childTaskTitle", "Child task", "priority", "LOW"));
+        if (created != null)
+            childTasks.add(new long[]{parentTaskId, created.get("childTaskId").asLong()});
+    }
+
+    private void updateParentTask(long scheduledAt) throws IOException, InterruptedException {
+        Long parentTaskId = randomParentTask();
+        if (parentTaskId == null) {
+            createParentTask(scheduledAt);
+            return;
+        }
+        send(scheduledAt, "PUT /api/sections/{id}/parent-tasks/{id}", "PUT", parentTasksPath() + "/" + parentTaskId,
+                Map.of("parentTaskTitle", "Renamed parent task", "priority", "HIGH",
+                        "isCompleted", ThreadLocalRandom.current().nextBoolean()));
+    }
+
+    private void toggleCompletion(long scheduledAt) throws IOException, InterruptedException {
+        Long parentTaskId = randomParentTask();
+        if (parentTaskId == null) {
+            createParentTask(scheduledAt);
+            return;
+        }
+        send(scheduledAt, "PUT /api/sections/{id}/parent-tasks/{id}/child-tasks/completion", "PUT",
+                childTasksPath(parentTaskId) + "/completion",
+                Map.of("isCompleted", ThreadLocalRandom.current().nextBoolean()));
+    }
+
+    private void deleteChildTask(long scheduledAt) throws IOException, InterruptedException {
+        if (childTasks.isEmpty()) {
+            createChildTask(scheduledAt);
+            return;
+        }
+        long[] childTask = removeRandom(childTasks);
+        if (childTask == null)
+            return;
+        send(scheduledAt, "DELETE /api/sections/{id}/parent-tasks/{id}/child-tasks/{id}", "DELETE",
+                childTasksPath(childTask[0]) + "/" + childTask[1], null);
+    }
+
+    private void deleteParentTask(long scheduledAt) throws IOException, InterruptedException {
+        // Keep at least one parent task so the other steps have something to work on
+        if (parentTaskIds.size() < 2) {
+            createParentTask(scheduledAt);
+            return;
+        }
+        Long parentTaskId = removeRandom(parentTaskIds);
+        if (parentTaskId == null)
+            return;
+        childTasks.removeIf(childTask -> childTask[0] == parentTaskId);
+        send(scheduledAt, "DELETE /api/sections/{id}/parent-tasks/{id}", "DELETE",
+                parentTasksPath() + "/" + parentTaskId, null);
+    }
+
+    private Long randomParentTask() {
+        try {
+            return parentTaskIds.get(ThreadLocalRandom.current().nextInt(parentTaskIds.size()));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            // Empty, or shrunk by a concurrent delete
+            return null;
+        }
+    }
+
+    private static <T> T removeRandom(List<T> list) {
+        try {
+            return list.remove(ThreadLocalRandom.current().nextInt(list.size()));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            return null;
+        }
+    }
+
+    private String parentTasksPath() {
+        return "/api/sections/" + sectionId + "/parent-tasks";
+    }
+
+    private String childTasksPath(long parentTaskId) {
+        return parentTasksPath() + "/" + parentTaskId + "/child-tasks";
+    }
+
+    /**
+     * @return the parsed response body of a successful call with a body, otherwise null
+     */
+    private JsonNode send(long scheduledAt, String endpoint, String method, String path, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException ex) {
+            recording.record(endpoint, scheduledAt, System.nanoTime() - scheduledAt, false);
+            return null;
+        }
+
+        boolean success = response.statusCode() < 400;
+        recording.record(endpoint, scheduledAt, System.nanoTime() - scheduledAt, success);
+        return success && response.body().length > 0 ? OBJECT_MAPPER.readTree(response.body()) : null;
+    }
+}
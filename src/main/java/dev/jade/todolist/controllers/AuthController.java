@@ -4,15 +4,12 @@ import dev.jade.todolist.dtos.requests.AuthRequest;
 import dev.jade.todolist.dtos.requests.LoginRequest;
 import dev.jade.todolist.dtos.responses.AuthResponse;
 import dev.jade.todolist.services.AuthService;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -28,20 +25,21 @@ public class AuthController {
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(
             @Valid @RequestBody AuthRequest request,
-            HttpServletRequest httpRequest
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
     ) {
 
-        authService.registerUser(request);
-        AuthResponse response = authService.loginUser(request, httpRequest);
+        AuthResponse response = authService.registerUser(request, httpRequest, httpResponse);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(
             @Valid @RequestBody LoginRequest request,
-            HttpServletRequest httpRequest) {
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
 
-        AuthResponse response = authService.loginUser(request, httpRequest);
+        AuthResponse response = authService.loginUser(request, httpRequest, httpResponse);
         return ResponseEntity.ok(response);
     }
 
@@ -50,17 +48,7 @@ public class AuthController {
             (HttpServletRequest request,
              HttpServletResponse response) {
 
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            session.invalidate();
-        }
-        SecurityContextHolder.clearContext();
-
-        Cookie cookie = new Cookie("JSESSIONID", null);
-        cookie.setPath(request.getContextPath());
-        cookie.setMaxAge(0);
-        response.addCookie(cookie);
-
+        authService.logout(request, response);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
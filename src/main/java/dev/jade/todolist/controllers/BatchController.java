@@ -0,0 +1,34 @@
+package dev.jade.todolist.controllers;
+
+import dev.jade.todolist.dtos.requests.BatchRequest;
+import dev.jade.todolist.dtos.responses.BatchOperationResult;
+import dev.jade.todolist.security.CustomUserDetails;
+import dev.jade.todolist.services.BatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @PostMapping
+    public ResponseEntity<List<BatchOperationResult>> executeBatch(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @Valid @RequestBody BatchRequest request
+    ) {
+        Long userId = currentUser.getUserId();
+        List<BatchOperationResult> results = batchService.executeBatch(userId, request);
+        return ResponseEntity.ok(results);
+    }
+}
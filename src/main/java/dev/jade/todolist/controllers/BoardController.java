@@ -0,0 +1,30 @@
+package dev.jade.todolist.controllers;
+
+import dev.jade.todolist.dtos.responses.BoardSectionResponse;
+import dev.jade.todolist.security.CustomUserDetails;
+import dev.jade.todolist.services.BoardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/board")
+public class BoardController {
+
+    private final BoardService boardService;
+
+    @GetMapping
+    public ResponseEntity<List<BoardSectionResponse>> getBoard(
+            @AuthenticationPrincipal CustomUserDetails currentUser
+    ) {
+        Long userId = currentUser.getUserId();
+        List<BoardSectionResponse> board = boardService.findBoardByUser(userId);
+        return ResponseEntity.ok(board);
+    }
+}
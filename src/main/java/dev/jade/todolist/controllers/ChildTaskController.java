@@ -1,7 +1,12 @@
 package dev.jade.todolist.controllers;
 
 import dev.jade.todolist.dtos.requests.ChildTaskRequest;
+import dev.jade.todolist.dtos.requests.CompletionRequest;
 import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.CompletionResponse;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.DeleteResponse;
+import dev.jade.todolist.dtos.responses.ListVersion;
 import dev.jade.todolist.security.CustomUserDetails;
 import dev.jade.todolist.services.ChildTaskService;
 import jakarta.validation.Valid;
@@ -10,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,11 +42,30 @@ public class ChildTaskController {
     public ResponseEntity<List<ChildTaskResponse>> getChildTasks(
             @AuthenticationPrincipal CustomUserDetails currentUser,
             @PathVariable Long sectionId,
-            @PathVariable Long parentTaskId
+            @PathVariable Long parentTaskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
+    ) {
+        Long userId = currentUser.getUserId();
+        ListVersion version = childTaskService.findChildTasksVersion(userId, parentTaskId);
+        if (webRequest.checkNotModified(version.eTag(cursor, limit), version.lastModifiedMillis()))
+            return null;
+
+        CursorPage<ChildTaskResponse> page = childTaskService.findChildTasksByParent(userId, parentTaskId, cursor, limit);
+        return ResponseEntity.ok().headers(page.headers()).cacheControl(ListVersion.CACHE_CONTROL).body(page.items());
+    }
+
+    @PutMapping("/completion")
+    public ResponseEntity<CompletionResponse> updateChildTaskCompletion(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @PathVariable Long sectionId,
+            @PathVariable Long parentTaskId,
+            @Valid @RequestBody CompletionRequest request
     ) {
         Long userId = currentUser.getUserId();
-        List<ChildTaskResponse> tasks = childTaskService.findChildTasksByParent(userId, parentTaskId);
-        return ResponseEntity.ok(tasks);
+        CompletionResponse updated = childTaskService.updateCompletionByParent(userId, parentTaskId, request.isCompleted());
+        return ResponseEntity.ok(updated);
     }
 
     @PutMapping("/{childTaskId}")
@@ -57,14 +82,14 @@ public class ChildTaskController {
     }
 
     @DeleteMapping("/{childTaskId}")
-    public ResponseEntity<ChildTaskResponse> deleteChildTask(
+    public ResponseEntity<DeleteResponse> deleteChildTask(
             @AuthenticationPrincipal CustomUserDetails currentUser,
             @PathVariable Long sectionId,
             @PathVariable Long parentTaskId,
             @PathVariable Long childTaskId
     ) {
         Long userId = currentUser.getUserId();
-        childTaskService.deleteChildTask(userId, childTaskId);
-        return ResponseEntity.noContent().build();
+        DeleteResponse deleted = childTaskService.deleteChildTask(userId, childTaskId);
+        return ResponseEntity.ok(deleted);
     }
 }
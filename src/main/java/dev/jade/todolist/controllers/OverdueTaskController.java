@@ -0,0 +1,29 @@
+package dev.jade.todolist.controllers;
+
+import dev.jade.todolist.dtos.requests.CompletionRequest;
+import dev.jade.todolist.dtos.responses.CompletionResponse;
+import dev.jade.todolist.security.CustomUserDetails;
+import dev.jade.todolist.services.ParentTaskService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/overdue-tasks")
+public class OverdueTaskController {
+
+    private final ParentTaskService parentTaskService;
+
+    @PutMapping("/completion")
+    public ResponseEntity<CompletionResponse> updateOverdueCompletion(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @Valid @RequestBody CompletionRequest request
+    ) {
+        Long userId = currentUser.getUserId();
+        CompletionResponse updated = parentTaskService.updateCompletionOfOverdue(userId, request.isCompleted());
+        return ResponseEntity.ok(updated);
+    }
+}
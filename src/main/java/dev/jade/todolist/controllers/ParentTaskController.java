@@ -1,6 +1,11 @@
 package dev.jade.todolist.controllers;
 
+import dev.jade.todolist.dtos.requests.CompletionRequest;
 import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import dev.jade.todolist.dtos.responses.CompletionResponse;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.ListVersion;
+import dev.jade.todolist.dtos.responses.DeleteResponse;
 import dev.jade.todolist.dtos.responses.ParentTaskResponse;
 import dev.jade.todolist.security.CustomUserDetails;
 import dev.jade.todolist.services.ParentTaskService;
@@ -10,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -34,11 +40,29 @@ public class ParentTaskController {
     @GetMapping
     public ResponseEntity<List<ParentTaskResponse>> getParentTasks(
             @AuthenticationPrincipal CustomUserDetails currentUser,
-            @PathVariable Long sectionId
+            @PathVariable Long sectionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
     ) {
         Long userId = currentUser.getUserId();
-        List<ParentTaskResponse> tasks = parentTaskService.findParentTasksBySection(userId, sectionId);
-        return ResponseEntity.ok(tasks);
+        ListVersion version = parentTaskService.findParentTasksVersion(userId, sectionId);
+        if (webRequest.checkNotModified(version.eTag(cursor, limit), version.lastModifiedMillis()))
+            return null;
+
+        CursorPage<ParentTaskResponse> page = parentTaskService.findParentTasksBySection(userId, sectionId, cursor, limit);
+        return ResponseEntity.ok().headers(page.headers()).cacheControl(ListVersion.CACHE_CONTROL).body(page.items());
+    }
+
+    @PutMapping("/completion")
+    public ResponseEntity<CompletionResponse> updateSectionCompletion(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @PathVariable Long sectionId,
+            @Valid @RequestBody CompletionRequest request
+    ) {
+        Long userId = currentUser.getUserId();
+        CompletionResponse updated = parentTaskService.updateCompletionBySection(userId, sectionId, request.isCompleted());
+        return ResponseEntity.ok(updated);
     }
 
     @PutMapping("/{parentTaskId}")
@@ -54,13 +78,13 @@ public class ParentTaskController {
     }
 
     @DeleteMapping("/{parentTaskId}")
-    public ResponseEntity<Void> deleteParentTask(
+    public ResponseEntity<DeleteResponse> deleteParentTask(
             @AuthenticationPrincipal CustomUserDetails currentUser,
             @PathVariable Long sectionId,
             @PathVariable Long parentTaskId
     ) {
         Long userId = currentUser.getUserId();
-        parentTaskService.deleteParentTask(userId, parentTaskId);
-        return ResponseEntity.noContent().build();
+        DeleteResponse deleted = parentTaskService.deleteParentTask(userId, parentTaskId);
+        return ResponseEntity.ok(deleted);
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package dev.jade.todolist.controllers;
 
 import dev.jade.todolist.dtos.requests.SectionRequest;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.ListVersion;
+import dev.jade.todolist.dtos.responses.DeleteResponse;
 import dev.jade.todolist.dtos.responses.SectionResponse;
 import dev.jade.todolist.security.CustomUserDetails;
 import dev.jade.todolist.services.SectionService;
@@ -10,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,11 +36,18 @@ public class SectionController {
 
     @GetMapping
     public ResponseEntity<List<SectionResponse>> getSections(
-            @AuthenticationPrincipal CustomUserDetails currentUser
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
     ) {
         Long userId = currentUser.getUserId();
-        List<SectionResponse> sections = sectionService.findSectionsByUser(userId);
-        return ResponseEntity.ok(sections);
+        ListVersion version = sectionService.findSectionsVersion(userId);
+        if (webRequest.checkNotModified(version.eTag(cursor, limit), version.lastModifiedMillis()))
+            return null;
+
+        CursorPage<SectionResponse> page = sectionService.findSectionsByUser(userId, cursor, limit);
+        return ResponseEntity.ok().headers(page.headers()).cacheControl(ListVersion.CACHE_CONTROL).body(page.items());
     }
 
     @PutMapping("/{sectionId}")
@@ -51,12 +62,12 @@ public class SectionController {
     }
 
     @DeleteMapping("/{sectionId}")
-    public ResponseEntity<Void> deleteSection(
+    public ResponseEntity<DeleteResponse> deleteSection(
             @AuthenticationPrincipal CustomUserDetails currentUser,
             @PathVariable Long sectionId
     ) {
         Long userId = currentUser.getUserId();
-        sectionService.deleteSection(userId, sectionId);
-        return ResponseEntity.noContent().build();
+        DeleteResponse deleted = sectionService.deleteSection(userId, sectionId);
+        return ResponseEntity.ok(deleted);
     }
 }
\ No newline at end of file
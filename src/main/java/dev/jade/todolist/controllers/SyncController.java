@@ -0,0 +1,28 @@
+package dev.jade.todolist.controllers;
+
+import dev.jade.todolist.dtos.responses.SyncResponse;
+import dev.jade.todolist.security.CustomUserDetails;
+import dev.jade.todolist.services.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        Long userId = currentUser.getUserId();
+        SyncResponse changes = syncService.findChanges(userId, since, limit);
+        return ResponseEntity.ok(changes);
+    }
+}
@@ -0,0 +1,48 @@
+package dev.jade.todolist.controllers;
+
+import dev.jade.todolist.dtos.responses.ImportResponse;
+import dev.jade.todolist.security.CustomUserDetails;
+import dev.jade.todolist.services.TaskImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sections/{sectionId}/import")
+public class TaskImportController {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final TaskImportService taskImportService;
+
+    @PostMapping(consumes = NDJSON)
+    public ResponseEntity<ImportResponse> importNdjson(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @PathVariable Long sectionId,
+            InputStream body
+    ) throws IOException {
+        Long userId = currentUser.getUserId();
+        ImportResponse report = taskImportService.importNdjson(userId, sectionId, body);
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping(consumes = CSV)
+    public ResponseEntity<ImportResponse> importCsv(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @PathVariable Long sectionId,
+            InputStream body
+    ) throws IOException {
+        Long userId = currentUser.getUserId();
+        ImportResponse report = taskImportService.importCsv(userId, sectionId, body);
+        return ResponseEntity.ok(report);
+    }
+}
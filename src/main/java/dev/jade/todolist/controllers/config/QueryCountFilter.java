@@ -0,0 +1,155 @@
+package dev.jade.todolist.controllers.config;
+
+import dev.jade.todolist.repositories.config.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the JDBC statements each request executes, records them per endpoint and warns when an
+ * endpoint goes over its {@code app.query-count.budgets} entry.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true")
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+    private final long defaultBudget;
+    private final Map<String, Long> budgets;
+
+    public QueryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.query-count.header-enabled:false}") boolean headerEnabled,
+            @Value("${app.query-count.default-budget:10}") long defaultBudget,
+            @Value("${app.query-count.budgets:}") String budgets) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+        this.defaultBudget = defaultBudget;
+        this.budgets = Arrays.stream(budgets.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .collect(Collectors.toMap(
+                        entry -> entry.substring(0, entry.lastIndexOf('=')).trim(),
+                        entry -> Long.parseLong(entry.substring(entry.lastIndexOf('=') + 1).trim())));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        StatementCounter.Snapshot statements = StatementCounter.start();
+        QueryCountResponse countingResponse = new QueryCountResponse(response, statements, headerEnabled);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            countingResponse.writeHeader();
+            record(request, statements.count());
+        }
+    }
+
+    private void record(HttpServletRequest request, long count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("JDBC statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        String endpoint = request.getMethod() + " " + uri;
+        long budget = budgets.getOrDefault(endpoint, defaultBudget);
+        if (count > budget) {
+            meterRegistry.counter("http.server.requests.statements.over.budget", "method", request.getMethod(), "uri", uri)
+                    .increment();
+            log.warn("{} executed {} statements, over its budget of {}", endpoint, count, budget);
+        }
+    }
+
+    /**
+     * Adds the header just before the response is committed, while headers can still be set.
+     */
+    private static final class QueryCountResponse extends HttpServletResponseWrapper {
+
+        private final StatementCounter.Snapshot statements;
+        private boolean headerWritten;
+
+        private QueryCountResponse(HttpServletResponse response, StatementCounter.Snapshot statements, boolean enabled) {
+            super(response);
+            this.statements = statements;
+            this.headerWritten = !enabled;
+        }
+
+        private void writeHeader() {
+            if (headerWritten)
+                return;
+
+            headerWritten = true;
+            if (!isCommitted())
+                setHeader(QUERY_COUNT_HEADER, Long.toString(statements.count()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -2,8 +2,10 @@ CREATE TABLE IF NOT EXISTS users
 (
     user_id    BIGSERIAL PRIMARY KEY,
     username   VARCHAR(50)                           NOT NULL,
-    email      VARCHAR(255)                          NOT NULL UNIQUE,
+    email      VARCHAR(255)                          NOT NULL CONSTRAINT users_email_key UNIQUE,
     password VARCHAR(255) NOT NULL,
+    list_version     BIGINT      DEFAULT 0            NOT NULL,
+    list_modified_at TIMESTAMPTZ DEFAULT NULL,
     created_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL
 );
@@ -12,6 +14,10 @@ CREATE TABLE IF NOT EXISTS sections
 (
     section_id   BIGSERIAL PRIMARY KEY,
     section_name VARCHAR(255)                          NOT NULL,
+    parent_task_count           INTEGER DEFAULT 0      NOT NULL,
+    completed_parent_task_count INTEGER DEFAULT 0      NOT NULL,
+    list_version                BIGINT  DEFAULT 0      NOT NULL,
+    list_modified_at            TIMESTAMPTZ DEFAULT NULL,
     created_at   TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     updated_at   TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     user_id      BIGINT                                NOT NULL,
@@ -26,11 +32,17 @@ CREATE TABLE IF NOT EXISTS parent_tasks
     priority          VARCHAR(10) DEFAULT 'LOW'             NOT NULL,
     is_completed      BOOLEAN     DEFAULT FALSE             NOT NULL,
     completed_at      TIMESTAMPTZ DEFAULT NULL,
+    child_count           INTEGER DEFAULT 0             NOT NULL,
+    completed_child_count INTEGER DEFAULT 0             NOT NULL,
+    list_version          BIGINT  DEFAULT 0             NOT NULL,
+    list_modified_at      TIMESTAMPTZ DEFAULT NULL,
     created_at        TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     updated_at        TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     section_id        BIGINT                                NOT NULL,
+    user_id           BIGINT                                NOT NULL,
     CONSTRAINT check_parent_priority CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
-    CONSTRAINT parent_tasks_section_id_fkey FOREIGN KEY (section_id) REFERENCES sections (section_id) ON DELETE CASCADE
+    CONSTRAINT parent_tasks_section_id_fkey FOREIGN KEY (section_id) REFERENCES sections (section_id) ON DELETE CASCADE,
+    CONSTRAINT parent_tasks_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
 );
 
 CREATE TABLE IF NOT EXISTS child_tasks
@@ -44,19 +56,46 @@ CREATE TABLE IF NOT EXISTS child_tasks
     created_at       TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     updated_at       TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
     parent_task_id   BIGINT                                NOT NULL,
+    user_id          BIGINT                                NOT NULL,
     CONSTRAINT check_child_priority CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
-    CONSTRAINT child_tasks_parent_task_id_fkey FOREIGN KEY (parent_task_id) REFERENCES parent_tasks (parent_task_id) ON DELETE CASCADE
+    CONSTRAINT child_tasks_parent_task_id_fkey FOREIGN KEY (parent_task_id) REFERENCES parent_tasks (parent_task_id) ON DELETE CASCADE,
+    CONSTRAINT child_tasks_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
 );
 
-CREATE INDEX IF NOT EXISTS idx_sections_user_id ON sections (user_id);
-CREATE INDEX IF NOT EXISTS idx_parent_tasks_section_id ON parent_tasks (section_id);
-CREATE INDEX IF NOT EXISTS idx_child_tasks_parent_task_id ON child_tasks (parent_task_id);
+CREATE TABLE IF NOT EXISTS tombstones
+(
+    tombstone_id BIGSERIAL PRIMARY KEY,
+    user_id      BIGINT                                NOT NULL,
+    entity_type  VARCHAR(20)                           NOT NULL,
+    entity_id    BIGINT                                NOT NULL,
+    deleted_at   TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT check_tombstone_entity_type CHECK (entity_type IN ('SECTION', 'PARENT_TASK', 'CHILD_TASK')),
+    CONSTRAINT tombstones_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+);
+
+-- Keyset pagination: every list page is a range scan on (owner, created_at, id)
+DROP INDEX IF EXISTS idx_sections_user_id;
+DROP INDEX IF EXISTS idx_parent_tasks_section_id;
+DROP INDEX IF EXISTS idx_child_tasks_parent_task_id;
+
+CREATE INDEX IF NOT EXISTS idx_sections_user_id_created_at ON sections (user_id, created_at, section_id);
+CREATE INDEX IF NOT EXISTS idx_parent_tasks_section_id_created_at ON parent_tasks (section_id, created_at, parent_task_id);
+CREATE INDEX IF NOT EXISTS idx_child_tasks_parent_task_id_created_at ON child_tasks (parent_task_id, created_at, child_task_id);
+
+-- Delta sync (GET /api/sync): changes since a cursor are a range scan on (owner, updated_at, id)
+CREATE INDEX IF NOT EXISTS idx_sections_user_id_updated_at ON sections (user_id, updated_at, section_id);
+CREATE INDEX IF NOT EXISTS idx_parent_tasks_user_id_updated_at ON parent_tasks (user_id, updated_at, parent_task_id);
+CREATE INDEX IF NOT EXISTS idx_child_tasks_user_id_updated_at ON child_tasks (user_id, updated_at, child_task_id);
+CREATE INDEX IF NOT EXISTS idx_tombstones_user_id_deleted_at ON tombstones (user_id, deleted_at, tombstone_id);
+CREATE INDEX IF NOT EXISTS idx_tombstones_deleted_at ON tombstones (deleted_at);
 
 CREATE OR REPLACE FUNCTION update_updated_at_column() RETURNS TRIGGER AS
 $$
 BEGIN
-    NEW.updated_at
-        = CURRENT_TIMESTAMP;
+    -- Only fill in updated_at when the writer did not set it (the application assigns its own)
+    IF NEW.updated_at IS NOT DISTINCT FROM OLD.updated_at THEN
+        NEW.updated_at = CURRENT_TIMESTAMP;
+    END IF;
     RETURN NEW;
 END
 $$ LANGUAGE plpgsql;
@@ -98,8 +137,8 @@ $$
     END
 $$;
 
--- Reset index numbering
-ALTER SEQUENCE child_tasks_child_task_id_seq RESTART WITH 1;
-ALTER SEQUENCE parent_tasks_parent_task_id_seq RESTART WITH 1;
-ALTER SEQUENCE sections_section_id_seq RESTART WITH 1;
-ALTER SEQUENCE users_user_id_seq RESTART WITH 1;
\ No newline at end of file
+-- Reset index numbering; ids are handed out in pooled blocks (see db/migrations/001_pooled_id_sequences.sql)
+ALTER SEQUENCE child_tasks_child_task_id_seq INCREMENT BY 50 RESTART WITH 1;
+ALTER SEQUENCE parent_tasks_parent_task_id_seq INCREMENT BY 50 RESTART WITH 1;
+ALTER SEQUENCE sections_section_id_seq INCREMENT BY 50 RESTART WITH 1;
+ALTER SEQUENCE users_user_id_seq INCREMENT BY 50 RESTART WITH 1;
\ No newline at end of file
@@ -0,0 +1,25 @@
+-- Switches id generation from per-row IDENTITY inserts to pooled sequence allocation.
+--
+-- Hibernate now calls nextval() once per block of ids and treats the returned value as the
+-- upper bound of the block, so the sequences must advance by the same amount as the entity
+-- allocationSize. Existing rows are untouched: the next value is always above the last id in use,
+-- and the BIGSERIAL column defaults keep working for manual inserts.
+--
+-- To change the block size, change INCREMENT BY here; with
+-- hibernate.id.sequence.increment_size_mismatch_strategy=FIX the application follows the database.
+
+ALTER SEQUENCE users_user_id_seq INCREMENT BY 50;
+ALTER SEQUENCE sections_section_id_seq INCREMENT BY 50;
+ALTER SEQUENCE parent_tasks_parent_task_id_seq INCREMENT BY 50;
+ALTER SEQUENCE child_tasks_child_task_id_seq INCREMENT BY 50;
+
+-- Timestamps are now assigned by the application; the trigger only fills in updated_at for writers that don't.
+CREATE OR REPLACE FUNCTION update_updated_at_column() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF NEW.updated_at IS NOT DISTINCT FROM OLD.updated_at THEN
+        NEW.updated_at = CURRENT_TIMESTAMP;
+    END IF;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,33 @@
+-- Denormalized progress counters: child task totals on parent_tasks, parent task totals on sections.
+--
+-- The application keeps them up to date on every write (see TaskCounterService); this script adds
+-- the columns and fills them in once for existing rows. If they ever drift, TaskCounterService.repairCounters
+-- recomputes them in batches (schedule it with app.counters.repair-cron).
+
+ALTER TABLE parent_tasks
+    ADD COLUMN IF NOT EXISTS child_count           INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS completed_child_count INTEGER DEFAULT 0 NOT NULL;
+
+ALTER TABLE sections
+    ADD COLUMN IF NOT EXISTS parent_task_count           INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS completed_parent_task_count INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE parent_tasks pt
+SET child_count           = c.total,
+    completed_child_count = c.completed
+FROM (SELECT parent_task_id,
+             COUNT(*)                               AS total,
+             COUNT(*) FILTER (WHERE is_completed) AS completed
+      FROM child_tasks
+      GROUP BY parent_task_id) c
+WHERE c.parent_task_id = pt.parent_task_id;
+
+UPDATE sections s
+SET parent_task_count           = p.total,
+    completed_parent_task_count = p.completed
+FROM (SELECT section_id,
+             COUNT(*)                               AS total,
+             COUNT(*) FILTER (WHERE is_completed) AS completed
+      FROM parent_tasks
+      GROUP BY section_id) p
+WHERE p.section_id = s.section_id;
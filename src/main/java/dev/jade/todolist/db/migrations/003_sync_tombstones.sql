@@ -0,0 +1,23 @@
+-- Delta sync (GET /api/sync): tombstones for deleted rows and the sections' per-owner updated_at index
+-- (the task tables get theirs in 005).
+--
+-- The delete paths insert one tombstone per deleted section/task right before the bulk DELETE
+-- (see TombstoneRepository); SyncService purges them after app.sync.tombstone-retention, and
+-- clients holding an older cursor get 410 Gone and start over with a full sync.
+
+CREATE TABLE IF NOT EXISTS tombstones
+(
+    tombstone_id BIGSERIAL PRIMARY KEY,
+    user_id      BIGINT                                NOT NULL,
+    entity_type  VARCHAR(20)                           NOT NULL,
+    entity_id    BIGINT                                NOT NULL,
+    deleted_at   TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT check_tombstone_entity_type CHECK (entity_type IN ('SECTION', 'PARENT_TASK', 'CHILD_TASK')),
+    CONSTRAINT tombstones_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_tombstones_user_id_deleted_at ON tombstones (user_id, deleted_at, tombstone_id);
+CREATE INDEX IF NOT EXISTS idx_tombstones_deleted_at ON tombstones (deleted_at);
+
+-- Built concurrently so existing task tables stay writable (run outside a transaction block)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sections_user_id_updated_at ON sections (user_id, updated_at, section_id);
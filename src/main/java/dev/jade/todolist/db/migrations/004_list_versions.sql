@@ -0,0 +1,18 @@
+-- List versions for conditional GETs on the list endpoints: one counter per list on the row that owns it
+-- (users: sections, sections: parent tasks, parent_tasks: child tasks).
+--
+-- The application bumps them in the same transaction as every write that changes a list (see
+-- ListVersionService). Existing rows start at version 0 with no list_modified_at, so clients holding an
+-- ETag from the old aggregate validator get one full response and revalidate normally after that.
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS list_version     BIGINT DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS list_modified_at TIMESTAMPTZ DEFAULT NULL;
+
+ALTER TABLE sections
+    ADD COLUMN IF NOT EXISTS list_version     BIGINT DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS list_modified_at TIMESTAMPTZ DEFAULT NULL;
+
+ALTER TABLE parent_tasks
+    ADD COLUMN IF NOT EXISTS list_version     BIGINT DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS list_modified_at TIMESTAMPTZ DEFAULT NULL;
@@ -0,0 +1,46 @@
+-- Delta sync: user_id on parent_tasks and child_tasks, so one user's changes are a range scan on
+-- (user_id, updated_at, id) instead of a join through sections that sorts every changed row.
+--
+-- The application sets user_id on insert; tasks never move to another user. Run in two steps:
+-- step 1 before deploying the version that writes the column, step 2 once it is live (it backfills
+-- rows the old version inserted in between). The indexes are built concurrently, so step 2 must run
+-- outside a transaction block.
+
+-- Step 1
+ALTER TABLE parent_tasks ADD COLUMN IF NOT EXISTS user_id BIGINT;
+ALTER TABLE child_tasks ADD COLUMN IF NOT EXISTS user_id BIGINT;
+
+UPDATE parent_tasks pt
+SET user_id = s.user_id
+FROM sections s
+WHERE s.section_id = pt.section_id
+  AND pt.user_id IS NULL;
+
+UPDATE child_tasks ct
+SET user_id = pt.user_id
+FROM parent_tasks pt
+WHERE pt.parent_task_id = ct.parent_task_id
+  AND ct.user_id IS NULL;
+
+-- Step 2
+UPDATE parent_tasks pt
+SET user_id = s.user_id
+FROM sections s
+WHERE s.section_id = pt.section_id
+  AND pt.user_id IS NULL;
+
+UPDATE child_tasks ct
+SET user_id = pt.user_id
+FROM parent_tasks pt
+WHERE pt.parent_task_id = ct.parent_task_id
+  AND ct.user_id IS NULL;
+
+ALTER TABLE parent_tasks
+    ALTER COLUMN user_id SET NOT NULL,
+    ADD CONSTRAINT parent_tasks_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE;
+ALTER TABLE child_tasks
+    ALTER COLUMN user_id SET NOT NULL,
+    ADD CONSTRAINT child_tasks_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_parent_tasks_user_id_updated_at ON parent_tasks (user_id, updated_at, parent_task_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_child_tasks_user_id_updated_at ON child_tasks (user_id, updated_at, child_task_id);
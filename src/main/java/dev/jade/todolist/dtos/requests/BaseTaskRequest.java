@@ -1,5 +1,6 @@
 package dev.jade.todolist.dtos.requests;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.jade.todolist.models.Priority;
 import jakarta.validation.constraints.Future;
 import lombok.Getter;
@@ -14,6 +15,8 @@ public abstract class BaseTaskRequest {
 
     private Priority priority;
 
+    // Lombok's isCompleted() getter names the property "completed"; bind the documented key instead
+    @JsonProperty("isCompleted")
     private boolean isCompleted;
 
 }
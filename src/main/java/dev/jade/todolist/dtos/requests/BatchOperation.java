@@ -0,0 +1,45 @@
+package dev.jade.todolist.dtos.requests;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * A single create/update/delete inside a {@link BatchRequest}.
+ * <p>
+ * Which id is required depends on the target: creates name the owner
+ * ({@code sectionId} for parent tasks, {@code parentTaskId} for child tasks),
+ * updates and deletes name the entity itself. {@code body} has the shape of the
+ * matching request DTO and is ignored for deletes.
+ */
+@Getter
+public class BatchOperation {
+
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    public enum Target {
+        SECTION,
+        PARENT_TASK,
+        CHILD_TASK
+    }
+
+    @NotNull(message = "Operation type is required")
+    private Type type;
+
+    @NotNull(message = "Operation target is required")
+    private Target target;
+
+    private Long sectionId;
+
+    private Long parentTaskId;
+
+    private Long childTaskId;
+
+    private Map<String, Object> body;
+
+}
@@ -0,0 +1,18 @@
+package dev.jade.todolist.dtos.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BatchRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 200, message = "A batch cannot contain more than 200 operations")
+    private List<BatchOperation> operations;
+
+}
@@ -0,0 +1,9 @@
+package dev.jade.todolist.dtos.requests;
+
+import jakarta.validation.constraints.NotNull;
+
+public record CompletionRequest(
+        @NotNull(message = "isCompleted is required")
+        Boolean isCompleted
+) {
+}
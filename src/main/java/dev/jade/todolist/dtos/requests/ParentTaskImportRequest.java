@@ -0,0 +1,20 @@
+package dev.jade.todolist.dtos.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One record of a bulk import: a parent task together with its child tasks.
+ */
+@Getter
+public class ParentTaskImportRequest extends ParentTaskRequest {
+
+    @Valid
+    @Size(max = 1000, message = "A parent task cannot import more than 1000 child tasks")
+    private List<ChildTaskRequest> childTasks = new ArrayList<>();
+
+}
@@ -0,0 +1,72 @@
+package dev.jade.todolist.dtos.requests;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of a client in each of the delta-sync streams: the {@code (updated_at, id)} of the last
+ * section, parent task and child task it has seen, and the {@code (deleted_at, id)} of the last tombstone.
+ * <p>
+ * Clients only ever see the opaque, URL-safe encoded form.
+ */
+public record SyncCursor(Position sections, Position parentTasks, Position childTasks, Position tombstones) {
+
+    public record Position(Instant at, long id) {
+
+        public static final Position START = new Position(Instant.EPOCH, 0);
+
+        /**
+         * Everything up to and including {@code at}.
+         */
+        public static Position through(Instant at) {
+            return new Position(at, Long.MAX_VALUE);
+        }
+
+        public boolean isAfter(Position other) {
+            int byTime = at.compareTo(other.at);
+            return byTime > 0 || byTime == 0 && id > other.id;
+        }
+
+        private String encode() {
+            return at.getEpochSecond() + ":" + at.getNano() + ":" + id;
+        }
+
+        private static Position decode(String raw) {
+            String[] parts = raw.split(":");
+            if (parts.length != 3)
+                throw new IllegalArgumentException("Invalid sync cursor");
+            return new Position(Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(",", sections.encode(), parentTasks.encode(), childTasks.encode(), tombstones.encode());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} when no cursor was sent (initial sync)
+     * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}
+     */
+    public static SyncCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] streams = raw.split(",");
+            if (streams.length != 4)
+                throw new IllegalArgumentException("Invalid sync cursor");
+
+            return new SyncCursor(
+                    Position.decode(streams[0]),
+                    Position.decode(streams[1]),
+                    Position.decode(streams[2]),
+                    Position.decode(streams[3]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid sync cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.jade.todolist.dtos.responses;
+
+/**
+ * Outcome of one batch operation: the status the equivalent single request would have
+ * returned and its response body.
+ */
+public record BatchOperationResult(
+        int index,
+        int status,
+        Object result
+) {
+}
@@ -0,0 +1,15 @@
+package dev.jade.todolist.dtos.responses;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class BoardParentTaskResponse extends ParentTaskResponse {
+
+    private List<ChildTaskResponse> childTasks = new ArrayList<>();
+
+}
@@ -0,0 +1,24 @@
+package dev.jade.todolist.dtos.responses;
+
+import java.time.Instant;
+
+/**
+ * One committed change, as pushed on {@code GET /api/events}.
+ *
+ * @param parentId the section of a parent task, the parent task of a child task, {@code null} for sections
+ * @param version  the row's {@code updatedAt} after the change (the time of deletion for deletes)
+ */
+public record ChangeEvent(EntityType entityType, Long id, Long parentId, Operation operation, Instant version) {
+
+    public enum EntityType {
+        SECTION,
+        PARENT_TASK,
+        CHILD_TASK
+    }
+
+    public enum Operation {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -9,6 +9,8 @@ public class ChildTaskResponse extends BaseTaskResponse {
 
     private Long childTaskId;
 
+    private Long parentTaskId;
+
     private String childTaskTitle;
 
 }
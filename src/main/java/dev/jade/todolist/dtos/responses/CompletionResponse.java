@@ -0,0 +1,14 @@
+package dev.jade.todolist.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CompletionResponse {
+
+    private int updatedParentTasks;
+
+    private int updatedChildTasks;
+
+}
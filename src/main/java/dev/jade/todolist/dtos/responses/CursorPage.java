@@ -0,0 +1,51 @@
+package dev.jade.todolist.dtos.responses;
+
+import dev.jade.todolist.dtos.requests.PageCursor;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ * <p>
+ * The items are returned as the response body; the cursor of the following page, if any,
+ * travels in the {@value #NEXT_CURSOR_HEADER} header so list bodies keep their shape.
+ */
+public record CursorPage<T>(List<T> items, String next) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null)
+            return DEFAULT_LIMIT;
+        return Math.clamp(limit, 1, MAX_LIMIT);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only signals
+     * that another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> of(
+            List<E> rows,
+            int limit,
+            Function<E, PageCursor> cursorOf,
+            Function<E, T> mapper) {
+
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        List<T> items = pageRows.stream().map(mapper).toList();
+        String next = hasNext ? cursorOf.apply(pageRows.getLast()).encode() : null;
+        return new CursorPage<>(items, next);
+    }
+
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (next != null)
+            headers.set(NEXT_CURSOR_HEADER, next);
+        return headers;
+    }
+}
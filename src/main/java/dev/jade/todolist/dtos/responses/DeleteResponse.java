@@ -0,0 +1,20 @@
+package dev.jade.todolist.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DeleteResponse {
+
+    private int deletedSections;
+
+    private int deletedParentTasks;
+
+    private int deletedChildTasks;
+
+    public int getDeletedTotal() {
+        return deletedSections + deletedParentTasks + deletedChildTasks;
+    }
+
+}
@@ -0,0 +1,13 @@
+package dev.jade.todolist.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportLineError(
+        long line,
+        String message,
+        Map<String, String> details
+) {
+}
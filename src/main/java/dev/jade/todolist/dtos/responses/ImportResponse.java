@@ -0,0 +1,23 @@
+package dev.jade.todolist.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ImportResponse {
+
+    private int importedParentTasks;
+
+    private int importedChildTasks;
+
+    private int rejectedLines;
+
+    /**
+     * The first rejected lines, capped so a broken file cannot blow up the report.
+     */
+    private List<ImportLineError> errors;
+
+}
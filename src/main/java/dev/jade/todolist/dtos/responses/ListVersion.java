@@ -0,0 +1,35 @@
+package dev.jade.todolist.dtos.responses;
+
+import org.springframework.http.CacheControl;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Version of one list endpoint, read from the user, section or parent task that owns the list.
+ */
+public record ListVersion(Long ownerId, Long version, long rowsVersion, Instant modifiedAt) {
+
+    // Clients may keep list responses but revalidate them on every use
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    public ListVersion(Long ownerId, Long version, Instant modifiedAt) {
+        this(ownerId, version, 0, modifiedAt);
+    }
+
+    // Section list: the user's version plus the sum of the sections' own versions
+    public ListVersion(Long ownerId, Long version, Long rowsVersion, Instant modifiedAt, Instant rowsModifiedAt) {
+        this(ownerId, version, rowsVersion == null ? 0 : rowsVersion,
+                rowsModifiedAt != null && (modifiedAt == null || rowsModifiedAt.isAfter(modifiedAt)) ? rowsModifiedAt : modifiedAt);
+    }
+
+    // Two users' section lists share a URL, so the owner is part of the tag
+    public String eTag(String cursor, Integer limit) {
+        return String.format("\"%d-%d.%d-%x\"",
+                ownerId, version, rowsVersion, Objects.hash(cursor, CursorPage.resolveLimit(limit)));
+    }
+
+    public long lastModifiedMillis() {
+        return modifiedAt == null ? -1 : modifiedAt.toEpochMilli();
+    }
+}
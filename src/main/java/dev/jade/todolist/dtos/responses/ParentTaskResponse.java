@@ -9,6 +9,12 @@ public class ParentTaskResponse extends BaseTaskResponse {
 
     private Long parentTaskId;
 
+    private Long sectionId;
+
     private String parentTaskTitle;
 
+    private int childCount;
+
+    private int completedChildCount;
+
 }
\ No newline at end of file
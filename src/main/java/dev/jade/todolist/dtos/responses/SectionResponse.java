@@ -13,6 +13,10 @@ public class SectionResponse {
 
     private String sectionName;
 
+    private int parentTaskCount;
+
+    private int completedParentTaskCount;
+
     private Instant createdAt;
 
     private Instant updatedAt;
@@ -0,0 +1,39 @@
+package dev.jade.todolist.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Everything that changed since the client's cursor, in {@code updated_at} order per type.
+ * <p>
+ * Rows changed in the last few seconds may be sent again by the next sync; clients apply them as upserts.
+ */
+@Getter
+@AllArgsConstructor
+public class SyncResponse {
+
+    private List<SectionResponse> sections;
+
+    private List<ParentTaskResponse> parentTasks;
+
+    private List<ChildTaskResponse> childTasks;
+
+    private List<Long> deletedSectionIds;
+
+    private List<Long> deletedParentTaskIds;
+
+    private List<Long> deletedChildTaskIds;
+
+    /**
+     * Cursor to send as {@code since} on the next call.
+     */
+    private String next;
+
+    /**
+     * More changes are waiting; call again right away with {@link #next}.
+     */
+    private boolean hasMore;
+
+}
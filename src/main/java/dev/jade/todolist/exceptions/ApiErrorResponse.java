@@ -1,7 +1,13 @@
 package dev.jade.todolist.exceptions;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
+import java.io.IOException;
 import java.time.Instant;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -14,4 +20,31 @@ public record ApiErrorResponse(
         Object details,
         String path
 ) {
+
+    public static ApiErrorResponse of(
+            HttpStatus status,
+            String code,
+            String message,
+            Object details,
+            HttpServletRequest request
+    ) {
+        return new ApiErrorResponse(
+                Instant.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                code,
+                message,
+                details,
+                request.getRequestURI()
+        );
+    }
+
+    /**
+     * Writes this error as the response, for the filters that answer before any controller advice runs.
+     */
+    public void writeTo(HttpServletResponse response, ObjectMapper objectMapper) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), this);
+    }
 }
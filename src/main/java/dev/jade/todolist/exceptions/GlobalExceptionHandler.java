@@ -1,6 +1,7 @@
 package dev.jade.todolist.exceptions;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -11,7 +12,6 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -28,7 +28,7 @@ public class GlobalExceptionHandler {
             fieldErrors.put(fieldError.getField(), fieldError.getDefaultMessage());
         }
 
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "VALIDATION_ERROR",
                 "Validation failed",
@@ -38,12 +38,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(InvalidBatchOperationException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidBatchOperation(
+            InvalidBatchOperationException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse body = ApiErrorResponse.of(
+                HttpStatus.BAD_REQUEST,
+                "VALIDATION_ERROR",
+                ex.getMessage(),
+                ex.getFieldErrors(),
+                request
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(
             EntityNotFoundException ex,
             HttpServletRequest request
     ) {
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.NOT_FOUND,
                 "NOT_FOUND",
                 ex.getMessage(),
@@ -53,12 +68,61 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    @ExceptionHandler(SyncCursorExpiredException.class)
+    public ResponseEntity<ApiErrorResponse> handleSyncCursorExpired(
+            SyncCursorExpiredException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse body = ApiErrorResponse.of(
+                HttpStatus.GONE,
+                "SYNC_CURSOR_EXPIRED",
+                ex.getMessage(),
+                null,
+                request
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(body);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiErrorResponse> handlePasswordHashingBusy(
+            PasswordHashingBusyException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse body = ApiErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "SERVICE_UNAVAILABLE",
+                ex.getMessage(),
+                null,
+                request
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleRateLimitExceeded(
+            RateLimitExceededException ex,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse body = ApiErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "RATE_LIMITED",
+                ex.getMessage(),
+                null,
+                request
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<ApiErrorResponse> handleConflict(
             UserAlreadyExistsException ex,
             HttpServletRequest request
     ) {
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.CONFLICT,
                 "CONFLICT",
                 ex.getMessage(),
@@ -73,7 +137,7 @@ public class GlobalExceptionHandler {
             RuntimeException ex,
             HttpServletRequest request
     ) {
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.UNAUTHORIZED,
                 "UNAUTHORIZED",
                 "Invalid credentials",
@@ -88,7 +152,7 @@ public class GlobalExceptionHandler {
             RuntimeException ex,
             HttpServletRequest request
     ) {
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.FORBIDDEN,
                 "FORBIDDEN",
                 ex.getMessage(),
@@ -103,7 +167,7 @@ public class GlobalExceptionHandler {
             AuthenticationException ex,
             HttpServletRequest request
     ) {
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.UNAUTHORIZED,
                 "UNAUTHORIZED",
                 "Authentication required",
@@ -118,7 +182,7 @@ public class GlobalExceptionHandler {
             IllegalArgumentException ex,
             HttpServletRequest request
     ) {
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "BAD_REQUEST",
                 ex.getMessage(),
@@ -133,7 +197,7 @@ public class GlobalExceptionHandler {
             Exception ex,
             HttpServletRequest request
     ) {
-        ApiErrorResponse body = buildError(
+        ApiErrorResponse body = ApiErrorResponse.of(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "INTERNAL_ERROR",
                 "Unexpected server error",
@@ -142,22 +206,4 @@ public class GlobalExceptionHandler {
         );
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
     }
-
-    private ApiErrorResponse buildError(
-            HttpStatus status,
-            String code,
-            String message,
-            Object details,
-            HttpServletRequest request
-    ) {
-        return new ApiErrorResponse(
-                Instant.now(),
-                status.value(),
-                status.getReasonPhrase(),
-                code,
-                message,
-                details,
-                request.getRequestURI()
-        );
-    }
 }
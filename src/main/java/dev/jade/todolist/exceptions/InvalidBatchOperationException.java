@@ -0,0 +1,20 @@
+package dev.jade.todolist.exceptions;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class InvalidBatchOperationException extends RuntimeException {
+
+    private final Map<String, String> fieldErrors;
+
+    public InvalidBatchOperationException(int index, String message) {
+        this(index, message, null);
+    }
+
+    public InvalidBatchOperationException(int index, String message, Map<String, String> fieldErrors) {
+        super(String.format("Operation %d: %s", index, message));
+        this.fieldErrors = fieldErrors;
+    }
+}
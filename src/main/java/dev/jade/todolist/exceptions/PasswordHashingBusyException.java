@@ -0,0 +1,8 @@
+package dev.jade.todolist.exceptions;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Too many sign-in attempts in progress, please retry shortly");
+    }
+}
@@ -0,0 +1,8 @@
+package dev.jade.todolist.exceptions;
+
+public class SyncCursorExpiredException extends RuntimeException {
+
+    public SyncCursorExpiredException() {
+        super("Sync cursor is older than the retained deletions; sync again without a cursor");
+    }
+}
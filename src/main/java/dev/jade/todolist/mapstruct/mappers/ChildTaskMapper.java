@@ -4,19 +4,24 @@ import dev.jade.todolist.dtos.requests.ChildTaskRequest;
 import dev.jade.todolist.dtos.responses.ChildTaskResponse;
 import dev.jade.todolist.mapstruct.configs.MapStructConfig;
 import dev.jade.todolist.models.ChildTask;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
 
 @Mapper(config = MapStructConfig.class)
 public interface ChildTaskMapper {
 
+    @Mapping(target = "parentTaskId", source = "parentTask.parentTaskId")
     ChildTaskResponse toResponse(ChildTask childTask);
 
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     @Mapping(target = "priority", defaultValue = "LOW")
 //    @Mapping(target = "isCompleted", defaultValue = "false")
     ChildTask toEntity(ChildTaskRequest request);
 
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     void updateEntityFromRequest(ChildTaskRequest request, @MappingTarget ChildTask childTask);
 
 }
@@ -1,21 +1,31 @@
 package dev.jade.todolist.mapstruct.mappers;
 
 import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import dev.jade.todolist.dtos.responses.BoardParentTaskResponse;
 import dev.jade.todolist.dtos.responses.ParentTaskResponse;
 import dev.jade.todolist.mapstruct.configs.MapStructConfig;
 import dev.jade.todolist.models.ParentTask;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
 
 @Mapper(config = MapStructConfig.class)
 public interface ParentTaskMapper {
 
+    @Mapping(target = "sectionId", source = "section.sectionId")
     ParentTaskResponse toResponse(ParentTask parentTask);
 
+    @Mapping(target = "sectionId", source = "section.sectionId")
+    @Mapping(target = "childTasks", ignore = true)
+    BoardParentTaskResponse toBoardResponse(ParentTask parentTask);
+
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     @Mapping(target = "priority", defaultValue = "LOW")
 //    @Mapping(target = "isCompleted", defaultValue = "false")
     ParentTask toEntity(ParentTaskRequest request);
 
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     void updateEntityFromRequest(ParentTaskRequest request, @MappingTarget ParentTask parentTask);
 }
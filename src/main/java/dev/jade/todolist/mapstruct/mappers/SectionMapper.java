@@ -2,19 +2,28 @@ package dev.jade.todolist.mapstruct.mappers;
 
 
 import dev.jade.todolist.dtos.requests.SectionRequest;
+import dev.jade.todolist.dtos.responses.BoardSectionResponse;
 import dev.jade.todolist.dtos.responses.SectionResponse;
 import dev.jade.todolist.mapstruct.configs.MapStructConfig;
 import dev.jade.todolist.models.Section;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
 
 @Mapper(config = MapStructConfig.class)
 public interface SectionMapper {
 
     SectionResponse toResponse(Section section);
 
+    @Mapping(target = "parentTasks", ignore = true)
+    BoardSectionResponse toBoardResponse(Section section);
+
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     Section toEntity(SectionRequest request);
 
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     void updateEntityFromRequest(SectionRequest request, @MappingTarget Section section);
 
 }
@@ -4,16 +4,25 @@ import dev.jade.todolist.dtos.requests.AuthRequest;
 import dev.jade.todolist.dtos.responses.AuthResponse;
 import dev.jade.todolist.mapstruct.configs.MapStructConfig;
 import dev.jade.todolist.models.User;
+import dev.jade.todolist.security.CustomUserDetails;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
 
 @Mapper(config = MapStructConfig.class)
 public interface UserMapper {
 
     AuthResponse toResponse(User user);
 
+    @Mapping(target = "username", source = "name")
+    AuthResponse toResponse(CustomUserDetails userDetails);
+
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     User toEntity(AuthRequest request);
 
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
     void updateEntityFromRequest(AuthRequest request, @MappingTarget User user);
 
 }
@@ -4,20 +4,36 @@ import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.generator.EventType;
 
 import java.time.Instant;
 
+/**
+ * Audit timestamps are assigned by Hibernate right before the INSERT/UPDATE is written,
+ * so no refresh is needed and the statements stay eligible for JDBC batching
+ * (values generated by the database on execution would force one round trip per row).
+ */
 @Getter
 @Setter
 @MappedSuperclass
 public abstract class AuditableEntity {
 
-    //  @CreatedDate
-    @Column(name = "created_at", insertable = false, nullable = false, updatable = false)
+    /**
+     * Ids are drawn from the pooled {@code *_id_seq} sequences; must match their {@code INCREMENT BY}.
+     */
+    protected static final int ID_ALLOCATION_SIZE = 50;
+
+    @CurrentTimestamp(event = EventType.INSERT, source = SourceType.VM)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
-    //  @LastModifiedDate
-    @Column(name = "updated_at", insertable = false, nullable = false)
+    @CurrentTimestamp(event = {EventType.INSERT, EventType.UPDATE}, source = SourceType.VM)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package dev.jade.todolist.models;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions, sized by {@code app.jpa-cache.regions.<name>.*}.
+ * <p>
+ * Sections and parent tasks are not cached: their counters and list versions are bumped with bulk
+ * UPDATEs on every write below them, and each bulk UPDATE evicts the entity's whole region.
+ */
+public final class CacheRegions {
+
+    public static final String CHILD_TASKS = "child-tasks";
+    public static final String LIST_QUERIES = "list-queries";
+
+    // Hibernate's own regions; the timestamps region must never evict, or cached queries could go stale
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> SIZED = List.of(
+            CHILD_TASKS, LIST_QUERIES, DEFAULT_QUERY_RESULTS);
+
+    private CacheRegions() {
+    }
+}
@@ -4,16 +4,21 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
 @Table(name = "child_tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CHILD_TASKS)
 public class ChildTask extends BaseTaskEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "child_tasks_id_seq")
+    @SequenceGenerator(name = "child_tasks_id_seq", sequenceName = "child_tasks_child_task_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long childTaskId;
 
     @Column(name = "child_task_title", nullable = false)
@@ -23,4 +28,8 @@ public class ChildTask extends BaseTaskEntity {
     @JoinColumn(name = "parent_task_id", nullable = false)
     private ParentTask parentTask;
 
+    // Owner of the parent task, copied on insert so delta sync is one range scan on (user_id, updated_at, child_task_id)
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
 }
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,16 +18,38 @@ import java.util.List;
 public class ParentTask extends BaseTaskEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parent_tasks_id_seq")
+    @SequenceGenerator(name = "parent_tasks_id_seq", sequenceName = "parent_tasks_parent_task_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long parentTaskId;
 
     @Column(name = "parent_task_title", nullable = false)
     private String parentTaskTitle;
 
+    // Counters are written on insert and then only by the atomic updates in ParentTaskRepository
+    @ColumnDefault("0")
+    @Column(name = "child_count", nullable = false, updatable = false)
+    private int childCount;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_child_count", nullable = false, updatable = false)
+    private int completedChildCount;
+
+    // Version of the child task list, bumped only by ListVersionService in the writing transaction
+    @ColumnDefault("0")
+    @Column(name = "list_version", nullable = false, updatable = false)
+    private long listVersion;
+
+    @Column(name = "list_modified_at", updatable = false)
+    private Instant listModifiedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "section_id", nullable = false)
     private Section section;
 
+    // Owner of the section, copied on insert so delta sync is one range scan on (user_id, updated_at, parent_task_id)
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
     @OneToMany(mappedBy = "parentTask",
             cascade = CascadeType.REMOVE,
             orphanRemoval = true,
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,12 +18,30 @@ import java.util.List;
 public class Section extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sections_id_seq")
+    @SequenceGenerator(name = "sections_id_seq", sequenceName = "sections_section_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long sectionId;
 
     @Column(name = "section_name", length = 50, nullable = false)
     private String sectionName;
 
+    // Counters are written on insert and then only by the atomic updates in SectionRepository
+    @ColumnDefault("0")
+    @Column(name = "parent_task_count", nullable = false, updatable = false)
+    private int parentTaskCount;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_parent_task_count", nullable = false, updatable = false)
+    private int completedParentTaskCount;
+
+    // Version of the parent task list, bumped only by ListVersionService in the writing transaction
+    @ColumnDefault("0")
+    @Column(name = "list_version", nullable = false, updatable = false)
+    private long listVersion;
+
+    @Column(name = "list_modified_at", updatable = false)
+    private Instant listModifiedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,7 @@
+package dev.jade.todolist.models;
+
+public enum TombstoneType {
+    SECTION,
+    PARENT_TASK,
+    CHILD_TASK
+}
@@ -5,7 +5,9 @@ import jakarta.validation.constraints.Email;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,23 +15,35 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"))
 public class User extends AuditableEntity {
 
+    // Named in ToDoList.sql as well, so a duplicate registration can be told apart from other violations
+    public static final String EMAIL_CONSTRAINT = "users_email_key";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_user_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long userId;
 
     @Column(name = "username", length = 50, nullable = false)
     private String username;
 
     @Email(message = "Email must be valid")
-    @Column(name = "email", unique = true, nullable = false)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @Column(name = "password", nullable = false)
     private String password;
 
+    // Version of the section list's membership, bumped only by ListVersionService in the writing transaction
+    @ColumnDefault("0")
+    @Column(name = "list_version", nullable = false, updatable = false)
+    private long listVersion;
+
+    @Column(name = "list_modified_at", updatable = false)
+    private Instant listModifiedAt;
+
     @OneToMany(mappedBy = "user",
             cascade = CascadeType.REMOVE,
             orphanRemoval = true,
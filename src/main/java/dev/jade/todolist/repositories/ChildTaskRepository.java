@@ -1,19 +1,140 @@
 package dev.jade.todolist.repositories;
 
+import dev.jade.todolist.models.CacheRegions;
 import dev.jade.todolist.models.ChildTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ChildTaskRepository extends JpaRepository<ChildTask, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LIST_QUERIES)
+    })
     List<ChildTask> findByParentTask_ParentTaskIdOrderByCreatedAt(Long parentTaskId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LIST_QUERIES)
+    })
+    List<ChildTask> findByParentTask_ParentTaskIdOrderByCreatedAtAscChildTaskIdAsc(Long parentTaskId, Limit limit);
+
+    @Query("""
+                SELECT ct FROM ChildTask ct
+                WHERE ct.parentTask.parentTaskId = :parentTaskId
+                AND ct.createdAt >= :createdAt
+                AND (ct.createdAt > :createdAt OR ct.childTaskId > :childTaskId)
+                ORDER BY ct.createdAt, ct.childTaskId
+            """)
+    List<ChildTask> findByParentTaskIdAfter(
+            @Param("parentTaskId") Long parentTaskId,
+            @Param("createdAt") Instant createdAt,
+            @Param("childTaskId") Long childTaskId,
+            Limit limit
+    );
+
+    @Query("""
+                SELECT ct FROM ChildTask ct
+                WHERE ct.parentTask.section.user.userId = :userId
+                ORDER BY ct.createdAt, ct.childTaskId
+            """)
+    List<ChildTask> findAllByUserId(@Param("userId") Long userId);
+
+    // Delta sync: rows changed after a (updated_at, id) position, served by (user_id, updated_at, child_task_id)
+    @Query("""
+                SELECT ct FROM ChildTask ct
+                WHERE ct.userId = :userId
+                AND ct.updatedAt >= :updatedAt
+                AND (ct.updatedAt > :updatedAt OR ct.childTaskId > :childTaskId)
+                ORDER BY ct.updatedAt, ct.childTaskId
+            """)
+    List<ChildTask> findChangedByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("childTaskId") Long childTaskId,
+            Limit limit
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                DELETE FROM ChildTask ct
+                WHERE ct.parentTask.parentTaskId = :parentTaskId
+            """)
+    int deleteAllByParentTaskIdInBulk(@Param("parentTaskId") Long parentTaskId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                DELETE FROM ChildTask ct
+                WHERE ct.parentTask.parentTaskId IN (
+                    SELECT pt.parentTaskId FROM ParentTask pt
+                    WHERE pt.section.sectionId = :sectionId
+                )
+            """)
+    int deleteAllBySectionIdInBulk(@Param("sectionId") Long sectionId);
+
+    // Completion updates only touch rows whose state changes and follow BaseTaskEntity.onUpdate:
+    // completedAt is set when a task gets completed and cleared when it is reopened
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE ChildTask ct
+                SET ct.isCompleted = :completed, ct.completedAt = :completedAt, ct.updatedAt = :now
+                WHERE ct.parentTask.parentTaskId = :parentTaskId
+                AND ct.isCompleted <> :completed
+            """)
+    int updateCompletionByParentTaskId(
+            @Param("parentTaskId") Long parentTaskId,
+            @Param("completed") boolean completed,
+            @Param("completedAt") Instant completedAt,
+            @Param("now") Instant now
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE ChildTask ct
+                SET ct.isCompleted = :completed, ct.completedAt = :completedAt, ct.updatedAt = :now
+                WHERE ct.parentTask.parentTaskId IN (
+                    SELECT pt.parentTaskId FROM ParentTask pt
+                    WHERE pt.section.sectionId = :sectionId
+                )
+                AND ct.isCompleted <> :completed
+            """)
+    int updateCompletionBySectionId(
+            @Param("sectionId") Long sectionId,
+            @Param("completed") boolean completed,
+            @Param("completedAt") Instant completedAt,
+            @Param("now") Instant now
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE ChildTask ct
+                SET ct.isCompleted = :completed, ct.completedAt = :completedAt, ct.updatedAt = :now
+                WHERE ct.userId = :userId
+                AND ct.deadline < :now
+                AND ct.isCompleted <> :completed
+            """)
+    int updateCompletionOfOverdueByUserId(
+            @Param("userId") Long userId,
+            @Param("completed") boolean completed,
+            @Param("completedAt") Instant completedAt,
+            @Param("now") Instant now
+    );
+
     @Query("""
                 SELECT ct FROM ChildTask ct
                 JOIN ct.parentTask pt
@@ -37,4 +158,27 @@ public interface ChildTaskRepository extends JpaRepository<ChildTask, Long> {
             @Param("parentTaskId") Long parentTaskId,
             @Param("userId") Long userId
     );
-}
\ No newline at end of file
+
+    @Query("""
+                SELECT ct FROM ChildTask ct
+                WHERE ct.childTaskId IN :childTaskIds
+                AND ct.parentTask.section.user.userId = :userId
+            """)
+    List<ChildTask> findAllByIdsAndUserId(
+            @Param("childTaskIds") Collection<Long> childTaskIds,
+            @Param("userId") Long userId
+    );
+
+    /**
+     * Streams every child task of the user for export; must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT ct FROM ChildTask ct
+                WHERE ct.parentTask.section.user.userId = :userId
+            """)
+    Stream<ChildTask> streamAllByUserId(@Param("userId") Long userId);
+}
@@ -1,19 +1,264 @@
 package dev.jade.todolist.repositories;
 
+import dev.jade.todolist.dtos.responses.ListVersion;
 import dev.jade.todolist.models.ParentTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ParentTaskRepository extends JpaRepository<ParentTask, Long> {
 
     List<ParentTask> findBySection_SectionIdOrderByCreatedAt(Long sectionId);
 
+    List<ParentTask> findBySection_SectionIdOrderByCreatedAtAscParentTaskIdAsc(Long sectionId, Limit limit);
+
+    @Query("""
+                SELECT pt FROM ParentTask pt
+                WHERE pt.section.sectionId = :sectionId
+                AND pt.createdAt >= :createdAt
+                AND (pt.createdAt > :createdAt OR pt.parentTaskId > :parentTaskId)
+                ORDER BY pt.createdAt, pt.parentTaskId
+            """)
+    List<ParentTask> findBySectionIdAfter(
+            @Param("sectionId") Long sectionId,
+            @Param("createdAt") Instant createdAt,
+            @Param("parentTaskId") Long parentTaskId,
+            Limit limit
+    );
+
+    @Query("""
+                SELECT pt FROM ParentTask pt
+                WHERE pt.section.user.userId = :userId
+                ORDER BY pt.createdAt, pt.parentTaskId
+            """)
+    List<ParentTask> findAllByUserId(@Param("userId") Long userId);
+
+    // Delta sync: rows changed after a (updated_at, id) position, served by (user_id, updated_at, parent_task_id)
+    @Query("""
+                SELECT pt FROM ParentTask pt
+                WHERE pt.userId = :userId
+                AND pt.updatedAt >= :updatedAt
+                AND (pt.updatedAt > :updatedAt OR pt.parentTaskId > :parentTaskId)
+                ORDER BY pt.updatedAt, pt.parentTaskId
+            """)
+    List<ParentTask> findChangedByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("parentTaskId") Long parentTaskId,
+            Limit limit
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                DELETE FROM ParentTask pt
+                WHERE pt.section.sectionId = :sectionId
+            """)
+    int deleteAllBySectionIdInBulk(@Param("sectionId") Long sectionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                DELETE FROM ParentTask pt
+                WHERE pt.parentTaskId = :parentTaskId
+            """)
+    int deleteByIdInBulk(@Param("parentTaskId") Long parentTaskId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.isCompleted = :completed, pt.completedAt = :completedAt, pt.updatedAt = :now
+                WHERE pt.section.sectionId = :sectionId
+                AND pt.isCompleted <> :completed
+            """)
+    int updateCompletionBySectionId(
+            @Param("sectionId") Long sectionId,
+            @Param("completed") boolean completed,
+            @Param("completedAt") Instant completedAt,
+            @Param("now") Instant now
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.isCompleted = :completed, pt.completedAt = :completedAt, pt.updatedAt = :now
+                WHERE pt.userId = :userId
+                AND pt.deadline < :now
+                AND pt.isCompleted <> :completed
+            """)
+    int updateCompletionOfOverdueByUserId(
+            @Param("userId") Long userId,
+            @Param("completed") boolean completed,
+            @Param("completedAt") Instant completedAt,
+            @Param("now") Instant now
+    );
+
+    @Query("""
+                SELECT new dev.jade.todolist.dtos.responses.ListVersion(pt.parentTaskId, pt.listVersion, pt.listModifiedAt)
+                FROM ParentTask pt
+                WHERE pt.parentTaskId = :parentTaskId
+            """)
+    Optional<ListVersion> findListVersionById(@Param("parentTaskId") Long parentTaskId);
+
+    // List versions of the child task lists, maintained by ListVersionService
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.listVersion = pt.listVersion + 1, pt.listModifiedAt = :now
+                WHERE pt.parentTaskId = :parentTaskId
+            """)
+    int bumpListVersion(@Param("parentTaskId") Long parentTaskId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.listVersion = pt.listVersion + 1, pt.listModifiedAt = :now
+                WHERE pt.section.sectionId = :sectionId
+            """)
+    int bumpListVersionsBySectionId(@Param("sectionId") Long sectionId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.listVersion = pt.listVersion + 1, pt.listModifiedAt = :now
+                WHERE pt.section.sectionId IN (
+                    SELECT s.sectionId FROM Section s
+                    WHERE s.user.userId = :userId
+                )
+            """)
+    int bumpListVersionsByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    // Progress counters, maintained by TaskCounterService
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.childCount = pt.childCount + :childDelta,
+                    pt.completedChildCount = pt.completedChildCount + :completedDelta,
+                    pt.updatedAt = :now
+                WHERE pt.parentTaskId = :parentTaskId
+            """)
+    int adjustChildCounts(
+            @Param("parentTaskId") Long parentTaskId,
+            @Param("childDelta") int childDelta,
+            @Param("completedDelta") int completedDelta,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.completedChildCount = (
+                        SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                        WHERE ct.parentTask.parentTaskId = pt.parentTaskId AND ct.isCompleted = true
+                    ),
+                    pt.updatedAt = :now
+                WHERE pt.section.sectionId = :sectionId
+                AND pt.completedChildCount <> (
+                    SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                    WHERE ct.parentTask.parentTaskId = pt.parentTaskId AND ct.isCompleted = true
+                )
+            """)
+    int recountCompletedChildTasksBySectionId(@Param("sectionId") Long sectionId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.completedChildCount = (
+                        SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                        WHERE ct.parentTask.parentTaskId = pt.parentTaskId AND ct.isCompleted = true
+                    ),
+                    pt.updatedAt = :now
+                WHERE pt.section.sectionId IN (
+                    SELECT s.sectionId FROM Section s
+                    WHERE s.user.userId = :userId
+                )
+                AND pt.completedChildCount <> (
+                    SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                    WHERE ct.parentTask.parentTaskId = pt.parentTaskId AND ct.isCompleted = true
+                )
+            """)
+    int recountCompletedChildTasksByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.isCompleted = true, pt.completedAt = :now, pt.updatedAt = :now
+                WHERE pt.parentTaskId = :parentTaskId
+                AND pt.isCompleted = false
+                AND pt.childCount > 0
+                AND pt.completedChildCount = pt.childCount
+            """)
+    int completeIfAllChildTasksCompleted(
+            @Param("parentTaskId") Long parentTaskId,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.isCompleted = true, pt.completedAt = :now, pt.updatedAt = :now
+                WHERE pt.section.sectionId IN (
+                    SELECT s.sectionId FROM Section s
+                    WHERE s.user.userId = :userId
+                )
+                AND pt.isCompleted = false
+                AND pt.childCount > 0
+                AND pt.completedChildCount = pt.childCount
+            """)
+    int completeAllWithAllChildTasksCompletedByUserId(
+            @Param("userId") Long userId,
+            @Param("now") Instant now
+    );
+
+    @Query("""
+                SELECT pt.parentTaskId FROM ParentTask pt
+                WHERE pt.parentTaskId > :afterId
+                ORDER BY pt.parentTaskId
+            """)
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Recomputes both counters from child_tasks; only rows that were off are written.
+     */
+    @Modifying
+    @Query("""
+                UPDATE ParentTask pt
+                SET pt.childCount = (
+                        SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                        WHERE ct.parentTask.parentTaskId = pt.parentTaskId
+                    ),
+                    pt.completedChildCount = (
+                        SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                        WHERE ct.parentTask.parentTaskId = pt.parentTaskId AND ct.isCompleted = true
+                    ),
+                    pt.updatedAt = :now
+                WHERE pt.parentTaskId IN :parentTaskIds
+                AND (
+                    pt.childCount <> (
+                        SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                        WHERE ct.parentTask.parentTaskId = pt.parentTaskId
+                    )
+                    OR pt.completedChildCount <> (
+                        SELECT CAST(COUNT(ct) AS Integer) FROM ChildTask ct
+                        WHERE ct.parentTask.parentTaskId = pt.parentTaskId AND ct.isCompleted = true
+                    )
+                )
+            """)
+    int recountChildCountsByIds(@Param("parentTaskIds") Collection<Long> parentTaskIds, @Param("now") Instant now);
+
     @Query("""
                 SELECT pt FROM ParentTask pt
                 WHERE pt.parentTaskId = :parentTaskId
@@ -24,6 +269,26 @@ public interface ParentTaskRepository extends JpaRepository<ParentTask, Long> {
             @Param("userId") Long userId
     );
 
+    @Query("""
+                SELECT pt FROM ParentTask pt
+                WHERE pt.parentTaskId IN :parentTaskIds
+                AND pt.section.user.userId = :userId
+            """)
+    List<ParentTask> findAllByIdsAndUserId(
+            @Param("parentTaskIds") Collection<Long> parentTaskIds,
+            @Param("userId") Long userId
+    );
+
+    @Query("""
+                SELECT pt.section.sectionId FROM ParentTask pt
+                WHERE pt.parentTaskId = :parentTaskId
+                AND pt.section.user.userId = :userId
+            """)
+    Optional<Long> findSectionIdByIdAndUserId(
+            @Param("parentTaskId") Long parentTaskId,
+            @Param("userId") Long userId
+    );
+
     @Query("""
                 SELECT CASE WHEN COUNT(pt) > 0 THEN true ELSE false END
                 FROM ParentTask pt
@@ -34,4 +299,17 @@ public interface ParentTaskRepository extends JpaRepository<ParentTask, Long> {
             @Param("parentTaskId") Long parentTaskId,
             @Param("userId") Long userId
     );
-}
\ No newline at end of file
+
+    /**
+     * Streams every parent task of the user for export; must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT pt FROM ParentTask pt
+                WHERE pt.section.user.userId = :userId
+            """)
+    Stream<ParentTask> streamAllByUserId(@Param("userId") Long userId);
+}
@@ -1,19 +1,214 @@
 package dev.jade.todolist.repositories;
 
+import dev.jade.todolist.dtos.responses.ListVersion;
 import dev.jade.todolist.models.Section;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SectionRepository extends JpaRepository<Section, Long> {
 
     List<Section> findByUser_UserIdOrderByCreatedAt(Long userId);
 
+    List<Section> findByUser_UserIdOrderByCreatedAtAscSectionIdAsc(Long userId, Limit limit);
+
+    @Query("""
+                SELECT s FROM Section s
+                WHERE s.user.userId = :userId
+                AND s.createdAt >= :createdAt
+                AND (s.createdAt > :createdAt OR s.sectionId > :sectionId)
+                ORDER BY s.createdAt, s.sectionId
+            """)
+    List<Section> findByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("sectionId") Long sectionId,
+            Limit limit
+    );
+
+    // Delta sync: rows changed after a (updated_at, id) position, served by (user_id, updated_at, section_id)
+    @Query("""
+                SELECT s FROM Section s
+                WHERE s.user.userId = :userId
+                AND s.updatedAt >= :updatedAt
+                AND (s.updatedAt > :updatedAt OR s.sectionId > :sectionId)
+                ORDER BY s.updatedAt, s.sectionId
+            """)
+    List<Section> findChangedByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("sectionId") Long sectionId,
+            Limit limit
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                DELETE FROM Section s
+                WHERE s.sectionId = :sectionId
+            """)
+    int deleteByIdInBulk(@Param("sectionId") Long sectionId);
+
+    @Query("""
+                SELECT new dev.jade.todolist.dtos.responses.ListVersion(s.sectionId, s.listVersion, s.listModifiedAt)
+                FROM Section s
+                WHERE s.sectionId = :sectionId
+            """)
+    Optional<ListVersion> findListVersionById(@Param("sectionId") Long sectionId);
+
+    // List versions of the parent task lists, maintained by ListVersionService; their sum versions the section list
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.listVersion = s.listVersion + 1, s.listModifiedAt = :now
+                WHERE s.sectionId = :sectionId
+            """)
+    int bumpListVersion(@Param("sectionId") Long sectionId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.listVersion = s.listVersion + 1, s.listModifiedAt = :now
+                WHERE s.user.userId = :userId
+            """)
+    int bumpListVersionsByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.listVersion = s.listVersion + 1, s.listModifiedAt = :now
+                WHERE s.sectionId IN :sectionIds
+            """)
+    int bumpListVersionsByIds(@Param("sectionIds") Collection<Long> sectionIds, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.listVersion = s.listVersion + 1, s.listModifiedAt = :now
+                WHERE s.sectionId IN (
+                    SELECT pt.section.sectionId FROM ParentTask pt
+                    WHERE pt.parentTaskId IN :parentTaskIds
+                )
+            """)
+    int bumpListVersionsByParentTaskIds(
+            @Param("parentTaskIds") Collection<Long> parentTaskIds,
+            @Param("now") Instant now
+    );
+
+    // Progress counters, maintained by TaskCounterService
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.parentTaskCount = s.parentTaskCount + :parentTaskDelta,
+                    s.completedParentTaskCount = s.completedParentTaskCount + :completedDelta,
+                    s.updatedAt = :now
+                WHERE s.sectionId = :sectionId
+            """)
+    int adjustParentTaskCounts(
+            @Param("sectionId") Long sectionId,
+            @Param("parentTaskDelta") int parentTaskDelta,
+            @Param("completedDelta") int completedDelta,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.completedParentTaskCount = s.completedParentTaskCount + :completedDelta,
+                    s.updatedAt = :now
+                WHERE s.sectionId = (
+                    SELECT pt.section.sectionId FROM ParentTask pt
+                    WHERE pt.parentTaskId = :parentTaskId
+                )
+            """)
+    int adjustCompletedParentTaskCountOfParentTask(
+            @Param("parentTaskId") Long parentTaskId,
+            @Param("completedDelta") int completedDelta,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.completedParentTaskCount = (
+                        SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                        WHERE pt.section.sectionId = s.sectionId AND pt.isCompleted = true
+                    ),
+                    s.updatedAt = :now
+                WHERE s.sectionId = :sectionId
+                AND s.completedParentTaskCount <> (
+                    SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                    WHERE pt.section.sectionId = s.sectionId AND pt.isCompleted = true
+                )
+            """)
+    int recountCompletedParentTasksBySectionId(@Param("sectionId") Long sectionId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.completedParentTaskCount = (
+                        SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                        WHERE pt.section.sectionId = s.sectionId AND pt.isCompleted = true
+                    ),
+                    s.updatedAt = :now
+                WHERE s.user.userId = :userId
+                AND s.completedParentTaskCount <> (
+                    SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                    WHERE pt.section.sectionId = s.sectionId AND pt.isCompleted = true
+                )
+            """)
+    int recountCompletedParentTasksByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Query("""
+                SELECT s.sectionId FROM Section s
+                WHERE s.sectionId > :afterId
+                ORDER BY s.sectionId
+            """)
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Recomputes both counters from parent_tasks; only rows that were off are written.
+     */
+    @Modifying
+    @Query("""
+                UPDATE Section s
+                SET s.parentTaskCount = (
+                        SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                        WHERE pt.section.sectionId = s.sectionId
+                    ),
+                    s.completedParentTaskCount = (
+                        SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                        WHERE pt.section.sectionId = s.sectionId AND pt.isCompleted = true
+                    ),
+                    s.updatedAt = :now
+                WHERE s.sectionId IN :sectionIds
+                AND (
+                    s.parentTaskCount <> (
+                        SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                        WHERE pt.section.sectionId = s.sectionId
+                    )
+                    OR s.completedParentTaskCount <> (
+                        SELECT CAST(COUNT(pt) AS Integer) FROM ParentTask pt
+                        WHERE pt.section.sectionId = s.sectionId AND pt.isCompleted = true
+                    )
+                )
+            """)
+    int recountParentTaskCountsByIds(@Param("sectionIds") Collection<Long> sectionIds, @Param("now") Instant now);
+
     @Query("""
                 SELECT s FROM Section s
                 WHERE s.sectionId = :sectionId
@@ -24,6 +219,16 @@ public interface SectionRepository extends JpaRepository<Section, Long> {
             @Param("userId") Long userId
     );
 
+    @Query("""
+                SELECT s FROM Section s
+                WHERE s.sectionId IN :sectionIds
+                AND s.user.userId = :userId
+            """)
+    List<Section> findAllByIdsAndUserId(
+            @Param("sectionIds") Collection<Long> sectionIds,
+            @Param("userId") Long userId
+    );
+
     @Query("""
                 SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END
                 FROM Section s
@@ -34,4 +239,18 @@ public interface SectionRepository extends JpaRepository<Section, Long> {
             @Param("sectionId") Long sectionId,
             @Param("userId") Long userId
     );
+
+    /**
+     * Streams every section of the user for export; must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT s FROM Section s
+                WHERE s.user.userId = :userId
+                ORDER BY s.createdAt, s.sectionId
+            """)
+    Stream<Section> streamAllByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,92 @@
+package dev.jade.todolist.repositories;
+
+import dev.jade.todolist.models.Tombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Tombstones are written with one INSERT ... SELECT per deleted level, before the matching bulk
+ * DELETE, so deleting a large subtree still never loads it.
+ */
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("""
+                SELECT t FROM Tombstone t
+                WHERE t.userId = :userId
+                AND t.deletedAt >= :deletedAt
+                AND (t.deletedAt > :deletedAt OR t.tombstoneId > :tombstoneId)
+                ORDER BY t.deletedAt, t.tombstoneId
+            """)
+    List<Tombstone> findByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("deletedAt") Instant deletedAt,
+            @Param("tombstoneId") Long tombstoneId,
+            Limit limit
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                INSERT INTO Tombstone (userId, entityType, entityId, deletedAt)
+                SELECT s.user.userId, dev.jade.todolist.models.TombstoneType.SECTION, s.sectionId, :now
+                FROM Section s
+                WHERE s.sectionId = :sectionId
+            """)
+    int insertForSection(@Param("sectionId") Long sectionId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                INSERT INTO Tombstone (userId, entityType, entityId, deletedAt)
+                SELECT pt.section.user.userId, dev.jade.todolist.models.TombstoneType.PARENT_TASK, pt.parentTaskId, :now
+                FROM ParentTask pt
+                WHERE pt.section.sectionId = :sectionId
+            """)
+    int insertForParentTasksOfSection(@Param("sectionId") Long sectionId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                INSERT INTO Tombstone (userId, entityType, entityId, deletedAt)
+                SELECT pt.section.user.userId, dev.jade.todolist.models.TombstoneType.PARENT_TASK, pt.parentTaskId, :now
+                FROM ParentTask pt
+                WHERE pt.parentTaskId = :parentTaskId
+            """)
+    int insertForParentTask(@Param("parentTaskId") Long parentTaskId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                INSERT INTO Tombstone (userId, entityType, entityId, deletedAt)
+                SELECT ct.parentTask.section.user.userId, dev.jade.todolist.models.TombstoneType.CHILD_TASK, ct.childTaskId, :now
+                FROM ChildTask ct
+                WHERE ct.parentTask.section.sectionId = :sectionId
+            """)
+    int insertForChildTasksOfSection(@Param("sectionId") Long sectionId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                INSERT INTO Tombstone (userId, entityType, entityId, deletedAt)
+                SELECT ct.parentTask.section.user.userId, dev.jade.todolist.models.TombstoneType.CHILD_TASK, ct.childTaskId, :now
+                FROM ChildTask ct
+                WHERE ct.parentTask.parentTaskId = :parentTaskId
+            """)
+    int insertForChildTasksOfParentTask(@Param("parentTaskId") Long parentTaskId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                INSERT INTO Tombstone (userId, entityType, entityId, deletedAt)
+                SELECT ct.parentTask.section.user.userId, dev.jade.todolist.models.TombstoneType.CHILD_TASK, ct.childTaskId, :now
+                FROM ChildTask ct
+                WHERE ct.childTaskId = :childTaskId
+            """)
+    int insertForChildTask(@Param("childTaskId") Long childTaskId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteAllDeletedBefore(@Param("before") Instant before);
+}
@@ -1,9 +1,14 @@
 package dev.jade.todolist.repositories;
 
+import dev.jade.todolist.dtos.responses.ListVersion;
 import dev.jade.todolist.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,33 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE User u
+                SET u.password = :password, u.updatedAt = :now
+                WHERE u.userId = :userId
+            """)
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password, @Param("now") Instant now);
+
+    @Query("""
+                SELECT new dev.jade.todolist.dtos.responses.ListVersion(
+                    u.userId, u.listVersion, SUM(s.listVersion), u.listModifiedAt, MAX(s.listModifiedAt)
+                )
+                FROM User u
+                LEFT JOIN Section s ON s.user = u
+                WHERE u.userId = :userId
+                GROUP BY u.userId, u.listVersion, u.listModifiedAt
+            """)
+    Optional<ListVersion> findListVersionById(@Param("userId") Long userId);
+
+    // Version of the section list's membership, maintained by ListVersionService
+
+    @Modifying
+    @Query("""
+                UPDATE User u
+                SET u.listVersion = u.listVersion + 1, u.listModifiedAt = :now
+                WHERE u.userId = :userId
+            """)
+    int bumpListVersion(@Param("userId") Long userId, @Param("now") Instant now);
 }
@@ -0,0 +1,34 @@
+package dev.jade.todolist.repositories.config;
+
+/**
+ * Per-thread statement count that only grows, so overlapping scopes each take a snapshot and subtract.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private StatementCounter() {
+    }
+
+    public static Snapshot start() {
+        return new Snapshot(current());
+    }
+
+    static void increment() {
+        STATEMENTS.get()[0]++;
+    }
+
+    private static long current() {
+        return STATEMENTS.get()[0];
+    }
+
+    public record Snapshot(long startedAt) {
+
+        /**
+         * @return statements executed on this thread since the snapshot was taken
+         */
+        public long count() {
+            return current() - startedAt;
+        }
+    }
+}
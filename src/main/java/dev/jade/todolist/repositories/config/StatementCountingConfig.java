@@ -0,0 +1,37 @@
+package dev.jade.todolist.repositories.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a {@link StatementCountingDataSource}
+ * (app.query-count.enabled, off by default).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true")
+public class StatementCountingConfig {
+
+    // Static so the post-processor does not pull this configuration, or the registry, in early
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource)
+                    return bean;
+
+                Counter statements = Counter.builder("jdbc.statements")
+                        .description("JDBC statements executed, batches counted once")
+                        .register(meterRegistry.getObject());
+                return new StatementCountingDataSource(dataSource, statements);
+            }
+        };
+    }
+}
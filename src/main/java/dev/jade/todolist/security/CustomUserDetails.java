@@ -6,6 +6,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 
@@ -15,6 +16,10 @@ public class CustomUserDetails implements UserDetails {
     private final Long userId;
     private final String email;
     private final String password;
+    // Display name; getUsername() is the email
+    private final String name;
+    private final Instant createdAt;
+    private final Instant updatedAt;
     private final Collection<? extends GrantedAuthority> authorities;
 
     // Account status flags - make these configurable if you need them later
@@ -30,6 +35,9 @@ public class CustomUserDetails implements UserDetails {
             Long userId,
             String email,
             String password,
+            String name,
+            Instant createdAt,
+            Instant updatedAt,
             Collection<? extends GrantedAuthority> authorities,
             boolean enabled,
             boolean accountNonExpired,
@@ -38,6 +46,9 @@ public class CustomUserDetails implements UserDetails {
         this.userId = userId;
         this.email = email;
         this.password = password;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
         this.authorities = authorities;
         this.enabled = enabled;
         this.accountNonExpired = accountNonExpired;
@@ -70,6 +81,9 @@ public class CustomUserDetails implements UserDetails {
                 user.getUserId(),
                 user.getEmail(),
                 user.getPassword(),
+                user.getUsername(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
                 authorities,
                 true,  // enabled - you can add this to User entity later
                 true,  // accountNonExpired
@@ -78,6 +92,44 @@ public class CustomUserDetails implements UserDetails {
         );
     }
 
+    /**
+     * Principal rebuilt from a verified session token; carries no password or profile fields.
+     */
+    public static CustomUserDetails forToken(Long userId, String email) {
+        return new CustomUserDetails(
+                userId,
+                email,
+                null,
+                null,
+                null,
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")),
+                true,
+                true,
+                true,
+                true
+        );
+    }
+
+    /**
+     * Copy with a new password hash, for after a rehash.
+     */
+    public CustomUserDetails withPassword(String password) {
+        return new CustomUserDetails(
+                userId,
+                email,
+                password,
+                name,
+                createdAt,
+                updatedAt,
+                authorities,
+                enabled,
+                accountNonExpired,
+                accountNonLocked,
+                credentialsNonExpired
+        );
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -0,0 +1,72 @@
+package dev.jade.todolist.security;
+
+import dev.jade.todolist.exceptions.PasswordHashingBusyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the hashing and verification of another encoder on a dedicated, bounded executor.
+ * <p>
+ * BCrypt is deliberately slow CPU work. Run on request threads, a burst of logins puts as many
+ * hashes on the CPUs as there are threads (every virtual-thread carrier, or hundreds of Tomcat
+ * workers) and stalls unrelated requests; here at most one hash per executor thread runs at a time,
+ * and once the executor queue is full further attempts fail fast with {@link PasswordHashingBusyException}.
+ * <p>
+ * The caller still waits for the result. A virtual thread unmounts while it waits, so its carrier
+ * serves other requests; a platform thread stays blocked, and what it gains is only the bounded CPU
+ * share. Whether that pays off is measured by the load test with a login-heavy mix, once with
+ * {@code app.security.password-hashing.offload} on and once with it off.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, ExecutorService executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only parses the stored hash, no hashing involved
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the executor; called by Spring when the context closes.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T offload(Callable<T> work) {
+        try {
+            return executor.submit(work).get();
+        } catch (RejectedExecutionException ex) {
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
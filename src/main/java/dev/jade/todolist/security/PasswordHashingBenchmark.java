@@ -0,0 +1,89 @@
+package dev.jade.todolist.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Times the configured password encoder once the application is up and logs the hash and verify
+ * latency, so the cost can be tuned against {@code app.security.password-hashing.target-latency}
+ * on the hardware that actually runs it.
+ * <p>
+ * Off by default: the samples run synchronously before the application reports ready, so enable
+ * it for a tuning run rather than on every boot.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingBenchmark {
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.security.password-hashing.benchmark.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.security.password-hashing.benchmark.samples:5}")
+    private int samples;
+
+    @Value("${app.security.password-hashing.target-latency:250ms}")
+    private Duration targetLatency;
+
+    @Value("${app.security.password-hashing.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${app.security.password-hashing.bcrypt-cost:10}")
+    private int bcryptCost;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void benchmark() {
+        if (!enabled || samples < 1)
+            return;
+
+        long[] hashNanos = new long[samples];
+        long[] verifyNanos = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            String hash = passwordEncoder.encode("benchmark-password-" + i);
+            hashNanos[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            passwordEncoder.matches("benchmark-password-" + i, hash);
+            verifyNanos[i] = System.nanoTime() - start;
+        }
+
+        Duration hash = median(hashNanos);
+        Duration verify = median(verifyNanos);
+        log.info("Password hashing ({}): hash {} ms, verify {} ms (median of {})",
+                describe(), hash.toMillis(), verify.toMillis(), samples);
+
+        if (verify.compareTo(targetLatency) > 0)
+            log.warn("Password verification takes {} ms, above the {} ms target{}",
+                    verify.toMillis(), targetLatency.toMillis(), suggestion(verify));
+    }
+
+    private String describe() {
+        return "bcrypt".equals(algorithm) ? "bcrypt, cost " + bcryptCost : algorithm;
+    }
+
+    private String suggestion(Duration verify) {
+        if (!"bcrypt".equals(algorithm))
+            return "";
+
+        // Each bcrypt cost step doubles the work
+        int steps = (int) Math.ceil(Math.log((double) verify.toNanos() / targetLatency.toNanos()) / Math.log(2));
+        return "; bcrypt-cost " + Math.max(4, bcryptCost - steps) + " would meet it";
+    }
+
+    private static Duration median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return Duration.ofNanos(sorted[sorted.length / 2]);
+    }
+}
@@ -0,0 +1,78 @@
+package dev.jade.todolist.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.jade.todolist.exceptions.ApiErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies {@link RateLimiter} before a request reaches the controllers: auth routes by client IP,
+ * everything else by user id once the security context is known. A rejected request is answered
+ * here with 429 and {@code Retry-After}, without touching the database or the password encoder.
+ * <p>
+ * The client IP is the connection's remote address; behind a proxy, set
+ * {@code server.forward-headers-strategy} so it is the real client.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health probes and other non-API paths are never limited
+        return !pathOf(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String path = pathOf(request);
+        long retryAfterNanos = path.equals("/api/auth/login") || path.equals("/api/auth/register")
+                ? rateLimiter.acquire(RateLimitGroup.AUTH, request.getRemoteAddr())
+                : rateLimiter.acquire(groupOf(path), clientKey(request));
+
+        if (retryAfterNanos > 0) {
+            reject(request, response, retryAfterNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static RateLimitGroup groupOf(String path) {
+        if (path.equals("/api/batch") || path.startsWith("/api/export") || path.endsWith("/import"))
+            return RateLimitGroup.BULK;
+        return RateLimitGroup.API;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user)
+            return "user:" + user.getUserId();
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterNanos) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.toRetryAfterSeconds(retryAfterNanos)));
+        ApiErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED", "Too many requests, please retry later", null, request)
+                .writeTo(response, objectMapper);
+    }
+}
@@ -0,0 +1,38 @@
+package dev.jade.todolist.security;
+
+/**
+ * Route groups with their own rate limits, configured under {@code app.rate-limit.<property>}.
+ */
+public enum RateLimitGroup {
+
+    /**
+     * Login and register, per client IP.
+     */
+    AUTH("auth"),
+
+    /**
+     * Failed login attempts per email, whatever IP they come from; checked before the password is
+     * verified, charged only when it does not match.
+     */
+    LOGIN("login"),
+
+    /**
+     * Batch, import and export, per user.
+     */
+    BULK("bulk"),
+
+    /**
+     * Every other API call, per user (per IP before sign-in).
+     */
+    API("api");
+
+    private final String property;
+
+    RateLimitGroup(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
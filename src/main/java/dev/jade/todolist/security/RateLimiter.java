@@ -0,0 +1,132 @@
+package dev.jade.todolist.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory token buckets, one per route group and key (user id, IP or email), per node.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} updated with compare-and-set, in the GCRA form of a
+ * token bucket: it stores the time at which the bucket would be full again, so taking a token is
+ * one read and one CAS, with no locks and no refill timer. Buckets idle for
+ * {@code app.rate-limit.idle-eviction} are dropped; a dropped bucket is indistinguishable from a full one.
+ */
+@Component
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final Map<RateLimitGroup, Limit> limits = new EnumMap<>(RateLimitGroup.class);
+    private final Map<RateLimitGroup, Counter> allowed = new EnumMap<>(RateLimitGroup.class);
+    private final Map<RateLimitGroup, Counter> rejected = new EnumMap<>(RateLimitGroup.class);
+    private final Cache<BucketKey, AtomicLong> buckets;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public RateLimiter(Environment environment, MeterRegistry meterRegistry) {
+        this(environment, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(Environment environment, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.enabled = environment.getProperty("app.rate-limit.enabled", Boolean.class, true);
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(environment.getProperty("app.rate-limit.max-buckets", Long.class, 100_000L))
+                .expireAfterAccess(environment.getProperty("app.rate-limit.idle-eviction", Duration.class, Duration.ofMinutes(10)))
+                .recordStats()
+                .build();
+
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            String prefix = "app.rate-limit." + group.getProperty() + ".";
+            int capacity = environment.getProperty(prefix + "capacity", Integer.class, 60);
+            int refillPerMinute = environment.getProperty(prefix + "refill-per-minute", Integer.class, 60);
+            limits.put(group, new Limit(capacity, TimeUnit.MINUTES.toNanos(1) / Math.max(refillPerMinute, 1)));
+
+            allowed.put(group, Counter.builder("rate.limit.requests")
+                    .tag("group", group.getProperty()).tag("result", "allowed").register(meterRegistry));
+            rejected.put(group, Counter.builder("rate.limit.requests")
+                    .tag("group", group.getProperty()).tag("result", "rejected").register(meterRegistry));
+        }
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit.buckets");
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @return 0 if the request may go ahead, otherwise the nanoseconds until a token is available
+     */
+    public long acquire(RateLimitGroup group, String key) {
+        if (!enabled)
+            return 0;
+
+        Limit limit = limits.get(group);
+        long now = nanoTime.getAsLong();
+        AtomicLong fullAt = buckets.get(new BucketKey(group, key), k -> new AtomicLong(now));
+
+        while (true) {
+            long current = fullAt.get();
+            // A bucket that filled up in the past counts from now; each token pushes "full again" one interval later
+            long start = current - now < 0 ? now : current;
+            long next = start + limit.interval();
+            long wait = next - now - limit.burst();
+            if (wait > 0) {
+                rejected.get(group).increment();
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                allowed.get(group).increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken by {@link #acquire}, for limits that only count some outcomes. The
+     * bucket never ends up fuller than its capacity, and a bucket that was already dropped stays dropped.
+     */
+    public void refund(RateLimitGroup group, String key) {
+        if (!enabled)
+            return;
+
+        AtomicLong fullAt = buckets.getIfPresent(new BucketKey(group, key));
+        if (fullAt == null)
+            return;
+
+        long interval = limits.get(group).interval();
+        long now = nanoTime.getAsLong();
+        fullAt.updateAndGet(current -> current - interval - now < 0 ? Math.min(current, now) : current - interval);
+    }
+
+    /**
+     * Whole seconds for a {@code Retry-After} header, rounded up.
+     */
+    public static long toRetryAfterSeconds(long retryAfterNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * @param interval nanoseconds between two refilled tokens
+     */
+    private record Limit(int capacity, long interval) {
+
+        private long burst() {
+            return capacity * interval;
+        }
+    }
+
+    private record BucketKey(RateLimitGroup group, String key) {
+    }
+}
@@ -0,0 +1,62 @@
+package dev.jade.todolist.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests from the session token cookie. A missing or invalid token leaves the
+ * request anonymous, so protected endpoints answer 401 as usual.
+ * <p>
+ * Added to the security filter chain only; it is deliberately not a bean, which would also
+ * register it with the servlet container.
+ */
+@RequiredArgsConstructor
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    private final SessionTokenService sessionTokenService;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String token = readCookie(request);
+        if (token != null) {
+            sessionTokenService.verify(token).ifPresent(verified -> {
+                CustomUserDetails user = verified.user();
+                SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+                securityContext.setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+                SecurityContextHolder.setContext(securityContext);
+
+                if (sessionTokenService.needsRenewal(verified))
+                    sessionTokenService.writeCookie(response, sessionTokenService.issue(user));
+            });
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null)
+            return null;
+
+        for (Cookie cookie : cookies) {
+            if (sessionTokenService.getCookieName().equals(cookie.getName()))
+                return cookie.getValue();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,179 @@
+package dev.jade.todolist.security;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Signed, expiring session tokens for the stateless mode ({@code app.security.session.mode=token}),
+ * so any node can authenticate a request without a session or database lookup.
+ * <p>
+ * A token is {@code kid.userId.expiresAt.email.signature}, with the email and the HMAC-SHA256
+ * signature base64url-encoded. Keys come from {@code app.security.token.keys} as
+ * {@code kid=base64secret} pairs: the first one signs, all of them verify, so a key is rotated by
+ * putting the new one first and dropping the old one once its tokens have expired.
+ * <p>
+ * Tokens cannot be revoked before they expire; logging out only removes the cookie.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.session.mode", havingValue = "token")
+public class SessionTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, SecretKeySpec> keys;
+    private final String signingKeyId;
+    private final Duration ttl;
+    private final String cookieName;
+    private final boolean cookieSecure;
+    private final String cookieSameSite;
+    private final Clock clock;
+
+    public SessionTokenService(
+            @Value("${app.security.token.keys:}") String keys,
+            @Value("${app.security.token.ttl:12h}") Duration ttl,
+            @Value("${app.security.token.cookie-name:TODO_SESSION}") String cookieName,
+            @Value("${server.servlet.session.cookie.secure:false}") boolean cookieSecure,
+            @Value("${server.servlet.session.cookie.same-site:Lax}") String cookieSameSite) {
+        this(keys, ttl, cookieName, cookieSecure, cookieSameSite, Clock.systemUTC());
+    }
+
+    SessionTokenService(
+            String keys,
+            Duration ttl,
+            String cookieName,
+            boolean cookieSecure,
+            String cookieSameSite,
+            Clock clock) {
+        this.keys = parseKeys(keys);
+        this.signingKeyId = this.keys.keySet().iterator().next();
+        this.ttl = ttl;
+        this.cookieName = cookieName;
+        this.cookieSecure = cookieSecure;
+        this.cookieSameSite = cookieSameSite;
+        this.clock = clock;
+    }
+
+    public String issue(CustomUserDetails user) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = signingKeyId + "." + user.getUserId() + "." + expiresAt + "."
+                + ENCODER.encodeToString(user.getEmail().getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(sign(keys.get(signingKeyId), payload));
+    }
+
+    /**
+     * @return the token's user, or empty if the token is malformed, forged, signed with an unknown key or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 5)
+            return Optional.empty();
+
+        SecretKeySpec key = keys.get(parts[0]);
+        if (key == null)
+            return Optional.empty();
+
+        try {
+            String payload = token.substring(0, token.lastIndexOf('.'));
+            if (!MessageDigest.isEqual(sign(key, payload), DECODER.decode(parts[4])))
+                return Optional.empty();
+
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(parts[2]));
+            if (!expiresAt.isAfter(clock.instant()))
+                return Optional.empty();
+
+            CustomUserDetails user = CustomUserDetails.forToken(
+                    Long.parseLong(parts[1]),
+                    new String(DECODER.decode(parts[3]), StandardCharsets.UTF_8));
+            return Optional.of(new VerifiedToken(user, parts[0], expiresAt));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Tokens signed with a retired key or past half their lifetime are replaced on use, so active
+     * users move to the current key and do not get logged out mid-session.
+     */
+    public boolean needsRenewal(VerifiedToken token) {
+        return !token.keyId().equals(signingKeyId)
+                || Duration.between(clock.instant(), token.expiresAt()).compareTo(ttl.dividedBy(2)) < 0;
+    }
+
+    public String getCookieName() {
+        return cookieName;
+    }
+
+    public void writeCookie(HttpServletResponse response, String token) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(token, ttl).toString());
+    }
+
+    public void clearCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", Duration.ZERO).toString());
+    }
+
+    private ResponseCookie cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(cookieName, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite(cookieSameSite)
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+    }
+
+    private static byte[] sign(SecretKeySpec key, String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot sign session token", ex);
+        }
+    }
+
+    private static Map<String, SecretKeySpec> parseKeys(String keys) {
+        Map<String, SecretKeySpec> parsed = new LinkedHashMap<>();
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank())
+                continue;
+
+            String[] pair = entry.trim().split("=", 2);
+            if (pair.length != 2 || pair[0].isBlank() || pair[0].contains("."))
+                throw new IllegalStateException("app.security.token.keys entries must be kid=base64secret");
+
+            byte[] secret = Base64.getDecoder().decode(pair[1].trim());
+            if (secret.length < MIN_KEY_BYTES)
+                throw new IllegalStateException("Session token key " + pair[0] + " is shorter than " + MIN_KEY_BYTES + " bytes");
+
+            parsed.put(pair[0].trim(), new SecretKeySpec(secret, ALGORITHM));
+            Arrays.fill(secret, (byte) 0);
+        }
+        if (parsed.isEmpty())
+            throw new IllegalStateException("app.security.session.mode=token requires app.security.token.keys");
+        return parsed;
+    }
+
+    public record VerifiedToken(CustomUserDetails user, String keyId, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,71 @@
+package dev.jade.todolist.security.config;
+
+import dev.jade.todolist.security.OffloadingPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing: algorithm and cost come from {@code app.security.password-hashing.*}.
+ * <p>
+ * New hashes are stored as {@code {id}hash}. Every supported algorithm can still be verified, and
+ * hashes written before the prefix existed are plain BCrypt, so changing the algorithm or cost never
+ * locks anyone out; DaoAuthenticationProvider rewrites outdated hashes on the next successful login.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    static final String BCRYPT = "bcrypt";
+    static final String PBKDF2 = "pbkdf2";
+
+    /**
+     * Runs on a fixed pool of platform threads, one per CPU unless {@code threads} says otherwise;
+     * see {@link OffloadingPasswordEncoder}. The pool is not a bean of its own so it never stands
+     * in for the application task executor. With {@code offload=false} hashing runs inline on the
+     * request thread, which is the baseline the load test compares against.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${app.security.password-hashing.bcrypt-cost:10}") int bcryptCost,
+            @Value("${app.security.password-hashing.pbkdf2-iterations:310000}") int pbkdf2Iterations,
+            @Value("${app.security.password-hashing.offload:true}") boolean offload,
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity) {
+
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm))
+            throw new IllegalStateException("Unsupported app.security.password-hashing.algorithm: " + algorithm);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptCost);
+        Pbkdf2PasswordEncoder pbkdf2 = new Pbkdf2PasswordEncoder(
+                "", 16, pbkdf2Iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, Map.of(BCRYPT, bcrypt, PBKDF2, pbkdf2));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        if (!offload)
+            return delegating;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory());
+
+        ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+        return new OffloadingPasswordEncoder(delegating, monitored);
+    }
+}
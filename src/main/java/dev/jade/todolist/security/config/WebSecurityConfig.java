@@ -1,15 +1,22 @@
 package dev.jade.todolist.security.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.jade.todolist.controllers.config.QueryCountFilter;
+import dev.jade.todolist.dtos.responses.CursorPage;
 import dev.jade.todolist.exceptions.ApiErrorResponse;
+import dev.jade.todolist.security.CaffeineUserCache;
+import dev.jade.todolist.security.CustomUserDetailsService;
+import dev.jade.todolist.security.RateLimitFilter;
+import dev.jade.todolist.security.RateLimiter;
+import dev.jade.todolist.security.SessionTokenFilter;
+import dev.jade.todolist.security.SessionTokenService;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -18,16 +25,16 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.FormLoginConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.io.IOException;
-import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -39,12 +46,29 @@ public class WebSecurityConfig {
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
+    @Value("${app.query-count.header-enabled:false}")
+    private boolean queryCountHeaderEnabled;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    // Set only when the actuator is moved to a port of its own
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
-            ObjectProvider<ObjectMapper> objectMapperProvider
+            ObjectProvider<ObjectMapper> objectMapperProvider,
+            ObjectProvider<SessionTokenService> sessionTokenServiceProvider,
+            RateLimiter rateLimiter
     ) throws Exception {
         ObjectMapper objectMapper = resolveObjectMapper(objectMapperProvider);
+        // Present only with app.security.session.mode=token
+        SessionTokenService sessionTokenService = sessionTokenServiceProvider.getIfAvailable();
+        // Scrapes need no login only on a separate management port, kept off the public ingress
+        RequestMatcher prometheusOnManagementPort = request ->
+                onManagementPort(request) && request.getRequestURI().equals("/actuator/prometheus");
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())  // CSRF disabled for development
@@ -53,29 +77,42 @@ public class WebSecurityConfig {
                                 .requestMatchers("/api/auth/register", "/api/auth/login",
                                         "/actuator/health", "/actuator/health/**")
                                 .permitAll()
+                                .requestMatchers(prometheusOnManagementPort)
+                                .permitAll()
                                 .anyRequest().authenticated())
                 .sessionManagement((session) -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                        .sessionCreationPolicy(sessionTokenService == null
+                                ? SessionCreationPolicy.IF_REQUIRED
+                                : SessionCreationPolicy.STATELESS))
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint((request, response, authException) ->
-                                writeError(response, objectMapper, request,
-                                        HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "Authentication required"))
+                                ApiErrorResponse.of(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "Authentication required", null, request)
+                                        .writeTo(response, objectMapper))
                         .accessDeniedHandler((request, response, accessDeniedException) ->
-                                writeError(response, objectMapper, request,
-                                        HttpStatus.FORBIDDEN, "FORBIDDEN", "Access denied"))
+                                ApiErrorResponse.of(HttpStatus.FORBIDDEN, "FORBIDDEN", "Access denied", null, request)
+                                        .writeTo(response, objectMapper))
                 )
                 .httpBasic(HttpBasicConfigurer::disable)
                 .formLogin(FormLoginConfigurer::disable);
 
+        if (sessionTokenService != null)
+            http.addFilterBefore(new SessionTokenFilter(sessionTokenService), UsernamePasswordAuthenticationFilter.class);
+        // After authentication so requests are limited per user, before authorization and the controllers
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), AnonymousAuthenticationFilter.class);
+
         return http.build();
     }
 
     @Bean
     public AuthenticationManager authenticationManager(
-            UserDetailsService userDetailsService,
+            CustomUserDetailsService userDetailsService,
+            CaffeineUserCache userCache,
             PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(userDetailsService);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
+        authenticationProvider.setUserCache(userCache);
+        // Hashes from an older algorithm or cost are rewritten on the next successful login
+        authenticationProvider.setUserDetailsPasswordService(userDetailsService);
 
         return new ProviderManager(authenticationProvider);
     }
@@ -86,6 +123,13 @@ public class WebSecurityConfig {
         config.setAllowedOrigins(parseAllowedOrigins());
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-XSRF-TOKEN"));
+        List<String> exposedHeaders = new ArrayList<>(List.of(
+                CursorPage.NEXT_CURSOR_HEADER,
+                HttpHeaders.ETAG,
+                HttpHeaders.LAST_MODIFIED));
+        if (queryCountHeaderEnabled)
+            exposedHeaders.add(QueryCountFilter.QUERY_COUNT_HEADER);
+        config.setExposedHeaders(exposedHeaders);
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
@@ -94,9 +138,8 @@ public class WebSecurityConfig {
         return source;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    private boolean onManagementPort(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
     }
 
     private List<String> parseAllowedOrigins() {
@@ -106,28 +149,6 @@ public class WebSecurityConfig {
                 .collect(Collectors.toList());
     }
 
-    private void writeError(
-            HttpServletResponse response,
-            ObjectMapper objectMapper,
-            HttpServletRequest request,
-            HttpStatus status,
-            String code,
-            String message
-    ) throws IOException {
-        ApiErrorResponse body = new ApiErrorResponse(
-                Instant.now(),
-                status.value(),
-                status.getReasonPhrase(),
-                code,
-                message,
-                null,
-                request.getRequestURI()
-        );
-        response.setStatus(status.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        objectMapper.writeValue(response.getOutputStream(), body);
-    }
-
     private ObjectMapper resolveObjectMapper(ObjectProvider<ObjectMapper> provider) {
         ObjectMapper mapper = provider.getIfAvailable();
         if (mapper != null) {
@@ -3,14 +3,23 @@ package dev.jade.todolist.services;
 import dev.jade.todolist.dtos.requests.AuthRequest;
 import dev.jade.todolist.dtos.requests.LoginRequest;
 import dev.jade.todolist.dtos.responses.AuthResponse;
-import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.exceptions.RateLimitExceededException;
 import dev.jade.todolist.exceptions.UserAlreadyExistsException;
 import dev.jade.todolist.mapstruct.mappers.UserMapper;
 import dev.jade.todolist.models.User;
 import dev.jade.todolist.repositories.UserRepository;
+import dev.jade.todolist.security.CustomUserDetails;
+import dev.jade.todolist.security.RateLimitGroup;
+import dev.jade.todolist.security.RateLimiter;
+import dev.jade.todolist.security.SessionTokenService;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,7 +28,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -29,48 +39,124 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final UserMapper mapper;
+    private final ObjectProvider<SessionTokenService> sessionTokenService;
+    private final RateLimiter rateLimiter;
 
-    @Transactional
-    public void registerUser(AuthRequest request) {
+    /**
+     * Creates the user and signs them in with the saved row; the password was just hashed here,
+     * so it is not loaded and verified again.
+     * <p>
+     * Not transactional: no connection is held while the password is hashed. A concurrent
+     * registration with the same email is caught by the unique constraint.
+     */
+    public AuthResponse registerUser(
+            AuthRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
         if (userRepository.existsByEmail(request.email())) {
             throw new UserAlreadyExistsException(request.email());
         }
         User createdUser = mapper.toEntity(request);
         createdUser.setPassword(passwordEncoder.encode(request.password()));
 
-        userRepository.save(createdUser);
+        try {
+            createdUser = userRepository.save(createdUser);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateEmail(ex))
+                throw new UserAlreadyExistsException(request.email());
+            throw ex;
+        }
+
+        CustomUserDetails userDetails = CustomUserDetails.build(createdUser);
+        establishSession(
+                UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities()),
+                httpRequest,
+                httpResponse
+        );
+
+        return mapper.toResponse(createdUser);
     }
 
-    @Transactional(readOnly = true)
-    public AuthResponse loginUser(LoginRequest request, HttpServletRequest httpRequest) {
+    /**
+     * Whether the insert lost a race on the unique email constraint ({@link User#EMAIL_CONSTRAINT}),
+     * as opposed to failing any other constraint.
+     */
+    static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            // Some dialects return the whole message part around the name (H2: "PUBLIC.USERS_EMAIL_KEY_INDEX_4 ON ...")
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null)
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT);
+        }
+        return false;
+    }
+
+    // Not transactional: no connection is held while the password is verified, and a rehash can be written
+    public AuthResponse loginUser(
+            LoginRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        // Per-account limit on failed attempts, on top of the per-IP one in RateLimitFilter. Every attempt takes a
+        // token before the costly password verify, so concurrent guesses cannot overrun it, and a successful login
+        // gives it back. The price: whoever knows an email can drain its bucket with wrong passwords and keep the
+        // owner out until it refills; the per-IP limit bounds how fast one client can do that.
+        String email = request.email().toLowerCase(Locale.ROOT);
+        long retryAfterNanos = rateLimiter.acquire(RateLimitGroup.LOGIN, email);
+        if (retryAfterNanos > 0)
+            throw new RateLimitExceededException(RateLimiter.toRetryAfterSeconds(retryAfterNanos));
+
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.email(),
                         request.password()
                 )
         );
+        rateLimiter.refund(RateLimitGroup.LOGIN, email);
 
-        establishSession(authentication, httpRequest);
-
-        User user = userRepository.findByEmail(request.email())
-                .orElseThrow(() -> new EntityNotFoundException("User", "email", request.email()));
+        establishSession(authentication, httpRequest, httpResponse);
 
-        return mapper.toResponse(user);
+        // The principal was loaded (or taken from the user cache) during authentication
+        return mapper.toResponse((CustomUserDetails) authentication.getPrincipal());
     }
 
-    public AuthResponse loginUser(AuthRequest request, HttpServletRequest httpRequest) {
-        return loginUser(new LoginRequest(request.email(), request.password()), httpRequest);
-    }
-
-    public void establishSession(Authentication authentication, HttpServletRequest httpRequest) {
+    /**
+     * Stores the authentication in the HTTP session, or in stateless mode
+     * ({@code app.security.session.mode=token}) hands the client a signed session token cookie.
+     */
+    public void establishSession(
+            Authentication authentication,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
         SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
         securityContext.setAuthentication(authentication);
         SecurityContextHolder.setContext(securityContext);
 
+        SessionTokenService tokens = sessionTokenService.getIfAvailable();
+        if (tokens != null) {
+            tokens.writeCookie(httpResponse, tokens.issue((CustomUserDetails) authentication.getPrincipal()));
+            return;
+        }
+
         HttpSession session = httpRequest.getSession(true);
         session.setAttribute(
                 HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
                 securityContext
         );
     }
+
+    public void logout(HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        HttpSession session = httpRequest.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+        SecurityContextHolder.clearContext();
+
+        Cookie cookie = new Cookie("JSESSIONID", null);
+        cookie.setPath(httpRequest.getContextPath());
+        cookie.setMaxAge(0);
+        httpResponse.addCookie(cookie);
+
+        SessionTokenService tokens = sessionTokenService.getIfAvailable();
+        if (tokens != null)
+            tokens.clearCookie(httpResponse);
+    }
 }
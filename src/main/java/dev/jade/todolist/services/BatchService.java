@@ -0,0 +1,359 @@
+package dev.jade.todolist.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.jade.todolist.dtos.requests.BatchOperation;
+import dev.jade.todolist.dtos.requests.BatchRequest;
+import dev.jade.todolist.dtos.requests.ChildTaskRequest;
+import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import dev.jade.todolist.dtos.requests.SectionRequest;
+import dev.jade.todolist.dtos.responses.BatchOperationResult;
+import dev.jade.todolist.dtos.responses.ChangeEvent.Operation;
+import dev.jade.todolist.dtos.responses.DeleteResponse;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.exceptions.InvalidBatchOperationException;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs an ordered list of create/update/delete operations in a single transaction.
+ * <p>
+ * All bodies are validated before anything is written, every entity the batch refers to is
+ * loaded and ownership-checked with one query per entity type, and the writes are flushed
+ * together at the end. Any failure rolls back the whole batch.
+ * <p>
+ * The package-private {@code create}/{@code update}/{@code delete*} steps it calls on the entity
+ * services do no ownership checks of their own and expect to run inside the caller's transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchService {
+
+    private final SectionService sectionService;
+    private final ParentTaskService parentTaskService;
+    private final ChildTaskService childTaskService;
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final OwnershipCache ownershipCache;
+    private final ListVersionService listVersionService;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public List<BatchOperationResult> executeBatch(Long userId, BatchRequest request) {
+        List<BatchOperation> operations = request.getOperations();
+        List<Object> bodies = bindBodies(operations);
+        OwnedEntities owned = loadOwnedEntities(userId, operations);
+
+        // Responses are built after the final flush so they carry the written timestamps
+        List<Supplier<BatchOperationResult>> results = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            results.add(execute(userId, index, operations.get(index), bodies.get(index), owned));
+        }
+        entityManager.flush();
+
+        return results.stream().map(Supplier::get).toList();
+    }
+
+    private Supplier<BatchOperationResult> execute(
+            Long userId,
+            int index,
+            BatchOperation operation,
+            Object body,
+            OwnedEntities owned) {
+
+        Long id = requiredId(operation);
+
+        return switch (operation.getTarget()) {
+            case SECTION -> switch (operation.getType()) {
+                case CREATE -> {
+                    User user = entityManager.getReference(User.class, userId);
+                    Section created = sectionService.create(user, (SectionRequest) body);
+                    listVersionService.sectionsChanged(userId);
+                    changeEventPublisher.sectionSaved(userId, created, Operation.CREATED);
+                    yield created(index, () -> sectionService.toResponse(created));
+                }
+                case UPDATE -> {
+                    Section section = owned.section(index, id);
+                    Section updated = sectionService.update(section, (SectionRequest) body);
+                    owned.sections.put(id, updated);
+                    listVersionService.sectionsChanged(userId);
+                    changeEventPublisher.sectionSaved(userId, updated, Operation.UPDATED);
+                    yield ok(index, () -> sectionService.toResponse(updated));
+                }
+                case DELETE -> {
+                    owned.section(index, id);
+                    // Before the delete, while the ownership cache can still map parent tasks to the section
+                    owned.markSectionDeleted(id, parentTaskId -> ownershipCache.requireParentTask(userId, parentTaskId));
+                    DeleteResponse deleted = sectionService.deleteSubtree(userId, id);
+                    listVersionService.sectionDeleted(userId, id);
+                    changeEventPublisher.sectionDeleted(userId, id);
+                    yield ok(index, () -> deleted);
+                }
+            };
+            case PARENT_TASK -> switch (operation.getType()) {
+                case CREATE -> {
+                    Section section = owned.section(index, id);
+                    ParentTask created = parentTaskService.create(userId, section, (ParentTaskRequest) body);
+                    listVersionService.parentTasksChanged(userId, id);
+                    changeEventPublisher.parentTaskSaved(userId, created, Operation.CREATED);
+                    yield created(index, () -> parentTaskService.toResponse(created));
+                }
+                case UPDATE -> {
+                    ParentTask parentTask = owned.parentTask(index, id);
+                    ParentTask updated = parentTaskService.update(parentTask, (ParentTaskRequest) body);
+                    owned.parentTasks.put(id, updated);
+                    listVersionService.parentTasksChanged(userId, updated.getSection().getSectionId());
+                    changeEventPublisher.parentTaskSaved(userId, updated, Operation.UPDATED);
+                    yield ok(index, () -> parentTaskService.toResponse(updated));
+                }
+                case DELETE -> {
+                    ParentTask parentTask = owned.parentTask(index, id);
+                    Long sectionId = parentTask.getSection().getSectionId();
+                    DeleteResponse deleted = parentTaskService.deleteSubtree(userId, parentTask);
+                    owned.markParentTaskDeleted(id);
+                    listVersionService.parentTaskDeleted(userId, sectionId, id);
+                    changeEventPublisher.parentTaskDeleted(userId, sectionId, id);
+                    yield ok(index, () -> deleted);
+                }
+            };
+            case CHILD_TASK -> switch (operation.getType()) {
+                case CREATE -> {
+                    ParentTask parentTask = owned.parentTask(index, id);
+                    ChildTask created = childTaskService.create(userId, parentTask, (ChildTaskRequest) body);
+                    listVersionService.parentTaskChanged(userId, parentTask.getSection().getSectionId(), id);
+                    changeEventPublisher.childTaskSaved(userId, created, Operation.CREATED);
+                    yield created(index, () -> childTaskService.toResponse(created));
+                }
+                case UPDATE -> {
+                    ChildTask childTask = owned.childTask(index, id);
+                    ChildTask updated = childTaskService.update(childTask, (ChildTaskRequest) body);
+                    owned.childTasks.put(id, updated);
+                    childTasksChanged(userId, updated);
+                    changeEventPublisher.childTaskSaved(userId, updated, Operation.UPDATED);
+                    yield ok(index, () -> childTaskService.toResponse(updated));
+                }
+                case DELETE -> {
+                    ChildTask childTask = owned.childTask(index, id);
+                    childTaskService.delete(childTask);
+                    owned.deletedChildTasks.add(id);
+                    childTasksChanged(userId, childTask);
+                    changeEventPublisher.childTaskDeleted(userId, childTask.getParentTask().getParentTaskId(), id);
+                    yield ok(index, () -> new DeleteResponse(0, 0, 1));
+                }
+            };
+        };
+    }
+
+    private void childTasksChanged(Long userId, ChildTask childTask) {
+        // The parent task itself may not be loaded; its section comes from the ownership cache instead
+        Long parentTaskId = childTask.getParentTask().getParentTaskId();
+        listVersionService.parentTaskChanged(userId, ownershipCache.requireParentTask(userId, parentTaskId), parentTaskId);
+    }
+
+    private Supplier<BatchOperationResult> created(int index, Supplier<Object> result) {
+        return () -> new BatchOperationResult(index, HttpStatus.CREATED.value(), result.get());
+    }
+
+    private Supplier<BatchOperationResult> ok(int index, Supplier<Object> result) {
+        return () -> new BatchOperationResult(index, HttpStatus.OK.value(), result.get());
+    }
+
+    /**
+     * Checks ids and converts/validates every body up front, so an invalid operation
+     * is rejected before anything is written.
+     */
+    private List<Object> bindBodies(List<BatchOperation> operations) {
+        List<Object> bodies = new ArrayList<>(operations.size());
+
+        for (int index = 0; index < operations.size(); index++) {
+            BatchOperation operation = operations.get(index);
+
+            String idField = requiredIdField(operation);
+            if (idField != null && requiredId(operation) == null)
+                throw new InvalidBatchOperationException(index, idField + " is required");
+
+            if (operation.getType() == BatchOperation.Type.DELETE) {
+                bodies.add(null);
+                continue;
+            }
+            if (operation.getBody() == null)
+                throw new InvalidBatchOperationException(index, "body is required");
+
+            Class<?> bodyType = switch (operation.getTarget()) {
+                case SECTION -> SectionRequest.class;
+                case PARENT_TASK -> ParentTaskRequest.class;
+                case CHILD_TASK -> ChildTaskRequest.class;
+            };
+
+            Object body;
+            try {
+                body = objectMapper.convertValue(operation.getBody(), bodyType);
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidBatchOperationException(index, "Invalid body");
+            }
+
+            Set<ConstraintViolation<Object>> violations = validator.validate(body);
+            if (!violations.isEmpty()) {
+                Map<String, String> fieldErrors = new LinkedHashMap<>();
+                for (ConstraintViolation<Object> violation : violations) {
+                    fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+                }
+                throw new InvalidBatchOperationException(index, "Validation failed", fieldErrors);
+            }
+            bodies.add(body);
+        }
+        return bodies;
+    }
+
+    private OwnedEntities loadOwnedEntities(Long userId, List<BatchOperation> operations) {
+        Set<Long> sectionIds = new HashSet<>();
+        Set<Long> parentTaskIds = new HashSet<>();
+        Set<Long> childTaskIds = new HashSet<>();
+
+        for (BatchOperation operation : operations) {
+            String idField = requiredIdField(operation);
+            if (idField == null)
+                continue;
+
+            Long id = requiredId(operation);
+            switch (idField) {
+                case "sectionId" -> sectionIds.add(id);
+                case "parentTaskId" -> parentTaskIds.add(id);
+                default -> childTaskIds.add(id);
+            }
+        }
+
+        return new OwnedEntities(
+                load(sectionIds, ids -> sectionRepository.findAllByIdsAndUserId(ids, userId), Section::getSectionId),
+                load(parentTaskIds, ids -> parentTaskRepository.findAllByIdsAndUserId(ids, userId), ParentTask::getParentTaskId),
+                load(childTaskIds, ids -> childTaskRepository.findAllByIdsAndUserId(ids, userId), ChildTask::getChildTaskId));
+    }
+
+    private <E> Map<Long, E> load(Set<Long> ids, Function<Set<Long>, List<E>> query, Function<E, Long> idOf) {
+        Map<Long, E> byId = new HashMap<>();
+        if (ids.isEmpty())
+            return byId;
+
+        for (E entity : query.apply(ids)) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        return byId;
+    }
+
+    /**
+     * The id the operation works on: the owner for creates, the entity itself otherwise.
+     */
+    private static String requiredIdField(BatchOperation operation) {
+        boolean create = operation.getType() == BatchOperation.Type.CREATE;
+        return switch (operation.getTarget()) {
+            case SECTION -> create ? null : "sectionId";
+            case PARENT_TASK -> create ? "sectionId" : "parentTaskId";
+            case CHILD_TASK -> create ? "parentTaskId" : "childTaskId";
+        };
+    }
+
+    private static Long requiredId(BatchOperation operation) {
+        String idField = requiredIdField(operation);
+        if (idField == null)
+            return null;
+
+        return switch (idField) {
+            case "sectionId" -> operation.getSectionId();
+            case "parentTaskId" -> operation.getParentTaskId();
+            default -> operation.getChildTaskId();
+        };
+    }
+
+    /**
+     * Entities referenced by the batch that belong to the user, plus what the batch itself deleted.
+     */
+    private static final class OwnedEntities {
+
+        private final Map<Long, Section> sections;
+        private final Map<Long, ParentTask> parentTasks;
+        private final Map<Long, ChildTask> childTasks;
+        private final Set<Long> deletedSections = new HashSet<>();
+        private final Set<Long> deletedParentTasks = new HashSet<>();
+        private final Set<Long> deletedChildTasks = new HashSet<>();
+
+        private OwnedEntities(
+                Map<Long, Section> sections,
+                Map<Long, ParentTask> parentTasks,
+                Map<Long, ChildTask> childTasks) {
+            this.sections = sections;
+            this.parentTasks = parentTasks;
+            this.childTasks = childTasks;
+        }
+
+        private Section section(int index, Long id) {
+            return lookup(index, "Section", id, sections, deletedSections);
+        }
+
+        private ParentTask parentTask(int index, Long id) {
+            return lookup(index, "ParentTask", id, parentTasks, deletedParentTasks);
+        }
+
+        private ChildTask childTask(int index, Long id) {
+            return lookup(index, "ChildTask", id, childTasks, deletedChildTasks);
+        }
+
+        private void markSectionDeleted(Long sectionId, Function<Long, Long> sectionOfParentTask) {
+            deletedSections.add(sectionId);
+            for (ParentTask parentTask : parentTasks.values()) {
+                if (sectionId.equals(parentTask.getSection().getSectionId()))
+                    markParentTaskDeleted(parentTask.getParentTaskId());
+            }
+            // Child tasks whose parent task the batch did not load
+            for (ChildTask childTask : childTasks.values()) {
+                if (!deletedChildTasks.contains(childTask.getChildTaskId())
+                        && sectionId.equals(sectionOfParentTask.apply(childTask.getParentTask().getParentTaskId())))
+                    deletedChildTasks.add(childTask.getChildTaskId());
+            }
+        }
+
+        private void markParentTaskDeleted(Long parentTaskId) {
+            deletedParentTasks.add(parentTaskId);
+            for (ChildTask childTask : childTasks.values()) {
+                if (parentTaskId.equals(childTask.getParentTask().getParentTaskId()))
+                    deletedChildTasks.add(childTask.getChildTaskId());
+            }
+        }
+
+        private static <E> E lookup(int index, String entityName, Long id, Map<Long, E> owned, Set<Long> deleted) {
+            if (deleted.contains(id))
+                throw new EntityNotFoundException(
+                        String.format("Operation %d: %s %d was deleted earlier in this batch", index, entityName, id));
+
+            E entity = owned.get(id);
+            if (entity == null)
+                throw new EntityNotFoundException(
+                        String.format("Operation %d: %s not found with id: %d", index, entityName, id));
+            return entity;
+        }
+    }
+}
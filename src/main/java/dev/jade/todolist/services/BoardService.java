@@ -0,0 +1,74 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.BoardParentTaskResponse;
+import dev.jade.todolist.dtos.responses.BoardSectionResponse;
+import dev.jade.todolist.mapstruct.mappers.ChildTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.ParentTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.SectionMapper;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the whole Section → ParentTask → ChildTask tree of a user.
+ * <p>
+ * Each level is read with a single query scoped by user id and stitched together in memory,
+ * so a board costs three statements regardless of how many sections and tasks it holds.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardService {
+
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final SectionMapper sectionMapper;
+    private final ParentTaskMapper parentTaskMapper;
+    private final ChildTaskMapper childTaskMapper;
+
+    @Transactional(readOnly = true)
+    public List<BoardSectionResponse> findBoardByUser(Long userId) {
+
+        List<Section> sections = sectionRepository.findByUser_UserIdOrderByCreatedAt(userId);
+        if (sections.isEmpty())
+            return new ArrayList<>();
+
+        List<BoardSectionResponse> board = new ArrayList<>(sections.size());
+        Map<Long, BoardSectionResponse> sectionsById = new HashMap<>();
+        for (Section section : sections) {
+            BoardSectionResponse response = sectionMapper.toBoardResponse(section);
+            board.add(response);
+            sectionsById.put(section.getSectionId(), response);
+        }
+
+        // The owning section/parent is already managed, so reading its id never triggers a lazy load
+        Map<Long, BoardParentTaskResponse> parentTasksById = new HashMap<>();
+        for (ParentTask parentTask : parentTaskRepository.findAllByUserId(userId)) {
+            BoardParentTaskResponse response = parentTaskMapper.toBoardResponse(parentTask);
+            sectionsById.get(parentTask.getSection().getSectionId()).getParentTasks().add(response);
+            parentTasksById.put(parentTask.getParentTaskId(), response);
+        }
+
+        if (parentTasksById.isEmpty())
+            return board;
+
+        for (ChildTask childTask : childTaskRepository.findAllByUserId(userId)) {
+            parentTasksById.get(childTask.getParentTask().getParentTaskId())
+                    .getChildTasks()
+                    .add(childTaskMapper.toResponse(childTask));
+        }
+
+        return board;
+    }
+}
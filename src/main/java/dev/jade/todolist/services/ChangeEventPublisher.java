@@ -0,0 +1,127 @@
+package dev.jade.todolist.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.jade.todolist.dtos.responses.ChangeEvent;
+import dev.jade.todolist.dtos.responses.ChangeEvent.EntityType;
+import dev.jade.todolist.dtos.responses.ChangeEvent.Operation;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Turns service writes into {@link ChangeEvent}s on the user's open event streams.
+ * <p>
+ * Events are built and sent only after the transaction commits, so a rolled-back write is never
+ * announced and the version is the one that was actually written. Nothing is done for users
+ * without an open stream. Streams are per node: clients connected to another node are not told.
+ */
+@Component
+public class ChangeEventPublisher {
+
+    private final ChangeEventStreams streams;
+    private final ObjectWriter eventWriter;
+
+    public ChangeEventPublisher(ChangeEventStreams streams, ObjectMapper objectMapper) {
+        this.streams = streams;
+        // ISO-8601 versions, the same as updatedAt in the REST responses
+        this.eventWriter = objectMapper.writerFor(ChangeEvent.class)
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    void sectionSaved(Long userId, Section section, Operation operation) {
+        publish(userId, () -> new ChangeEvent(
+                EntityType.SECTION, section.getSectionId(), null, operation, section.getUpdatedAt()));
+    }
+
+    void sectionDeleted(Long userId, Long sectionId) {
+        Instant now = Instant.now();
+        publish(userId, () -> new ChangeEvent(EntityType.SECTION, sectionId, null, Operation.DELETED, now));
+    }
+
+    /**
+     * Tasks inside the section changed in bulk; clients reload the section.
+     */
+    void sectionContentsChanged(Long userId, Long sectionId) {
+        Instant now = Instant.now();
+        publish(userId, () -> new ChangeEvent(EntityType.SECTION, sectionId, null, Operation.UPDATED, now));
+    }
+
+    void parentTaskSaved(Long userId, ParentTask parentTask, Operation operation) {
+        publish(userId, () -> new ChangeEvent(
+                EntityType.PARENT_TASK,
+                parentTask.getParentTaskId(),
+                parentTask.getSection().getSectionId(),
+                operation,
+                parentTask.getUpdatedAt()));
+    }
+
+    void parentTaskDeleted(Long userId, Long sectionId, Long parentTaskId) {
+        Instant now = Instant.now();
+        publish(userId, () -> new ChangeEvent(EntityType.PARENT_TASK, parentTaskId, sectionId, Operation.DELETED, now));
+    }
+
+    /**
+     * Child tasks of the parent task changed in bulk; clients reload the parent task.
+     */
+    void parentTaskContentsChanged(Long userId, Long sectionId, Long parentTaskId) {
+        Instant now = Instant.now();
+        publish(userId, () -> new ChangeEvent(EntityType.PARENT_TASK, parentTaskId, sectionId, Operation.UPDATED, now));
+    }
+
+    void childTaskSaved(Long userId, ChildTask childTask, Operation operation) {
+        publish(userId, () -> new ChangeEvent(
+                EntityType.CHILD_TASK,
+                childTask.getChildTaskId(),
+                childTask.getParentTask().getParentTaskId(),
+                operation,
+                childTask.getUpdatedAt()));
+    }
+
+    void childTaskDeleted(Long userId, Long parentTaskId, Long childTaskId) {
+        Instant now = Instant.now();
+        publish(userId, () -> new ChangeEvent(EntityType.CHILD_TASK, childTaskId, parentTaskId, Operation.DELETED, now));
+    }
+
+    /**
+     * Writes that can touch any of the user's rows (overdue completion).
+     */
+    void userChanged(Long userId) {
+        if (streams.hasSubscribers(userId))
+            afterCommit(() -> streams.resync(userId));
+    }
+
+    private void publish(Long userId, Supplier<ChangeEvent> event) {
+        if (streams.hasSubscribers(userId))
+            afterCommit(() -> streams.publish(userId, serialize(event.get())));
+    }
+
+    private String serialize(ChangeEvent event) {
+        try {
+            return eventWriter.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize change event", ex);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,197 @@
+package dev.jade.todolist.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open {@code GET /api/events} connections on this node, per user.
+ * <p>
+ * Each connection gets a bounded buffer and a virtual thread that drains it into the response,
+ * so an idle connection costs one parked virtual thread and a slow client only ever blocks its own
+ * writer. A client that falls {@code app.events.buffer-size} events behind loses the buffered
+ * events and receives a single {@code resync} event instead. The writer sends a comment line every
+ * {@code app.events.heartbeat} to keep proxies from closing an idle stream and to notice dead clients.
+ */
+@Slf4j
+@Component
+public class ChangeEventStreams {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+
+    private final ConcurrentHashMap<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-writer-", 0).factory());
+
+    private final int bufferSize;
+    private final Duration heartbeat;
+    private final Duration timeout;
+    private final Counter published;
+    private final Counter overflowed;
+
+    public ChangeEventStreams(
+            MeterRegistry meterRegistry,
+            @Value("${app.events.buffer-size:256}") int bufferSize,
+            @Value("${app.events.heartbeat:25s}") Duration heartbeat,
+            @Value("${app.events.timeout:30m}") Duration timeout) {
+
+        this.bufferSize = bufferSize;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.published = Counter.builder("events.published").register(meterRegistry);
+        this.overflowed = Counter.builder("events.overflows").register(meterRegistry);
+
+        Gauge.builder("events.connections", connections, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the user; the client is expected to reconnect once {@code app.events.timeout} ends it.
+     */
+    public SseEmitter subscribe(Long userId) {
+        return subscribe(userId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long userId, SseEmitter emitter) {
+        Subscription subscription = new Subscription(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        // Added and removed inside compute, so a concurrent close cannot drop the set this is added to
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            Set<Subscription> updated = userSubscriptions == null ? ConcurrentHashMap.newKeySet() : userSubscriptions;
+            updated.add(subscription);
+            return updated;
+        });
+        connections.incrementAndGet();
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(ex -> subscription.close());
+        subscription.writer = writers.submit(subscription::drain);
+        return emitter;
+    }
+
+    /**
+     * Queues an already serialized event for every open stream of the user; never blocks.
+     */
+    void publish(Long userId, String data) {
+        Set<Subscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null)
+            return;
+
+        published.increment();
+        for (Subscription subscription : userSubscriptions) {
+            subscription.offer(data);
+        }
+    }
+
+    boolean hasSubscribers(Long userId) {
+        return subscriptions.containsKey(userId);
+    }
+
+    /**
+     * Tells every open stream of the user to reload, for writes too broad to describe row by row.
+     */
+    void resync(Long userId) {
+        Set<Subscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null)
+            return;
+
+        for (Subscription subscription : userSubscriptions) {
+            subscription.requestResync();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(s -> s.emitter.complete()));
+        writers.shutdownNow();
+    }
+
+    private final class Subscription {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<String> buffer;
+        private volatile boolean behind;
+        private volatile boolean closed;
+        private volatile Future<?> writer;
+
+        private Subscription(Long userId, SseEmitter emitter, BlockingQueue<String> buffer) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void offer(String data) {
+            if (buffer.offer(data))
+                return;
+
+            // The client cannot keep up; what it missed is replaced by one resync
+            overflowed.increment();
+            requestResync();
+        }
+
+        private void requestResync() {
+            behind = true;
+            buffer.clear();
+            // Wakes the writer; the resync is sent first, so the marker itself is never written
+            buffer.offer("");
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    String data = buffer.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (behind) {
+                        buffer.clear();
+                        behind = false;
+                        emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+                    } else if (data == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (!data.isEmpty()) {
+                        emitter.send(SseEmitter.event().name(CHANGE_EVENT).data(data));
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away; the container reports it through onError/onCompletion as well
+                log.debug("Event stream for user {} closed: {}", userId, ex.getMessage());
+                emitter.completeWithError(ex);
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            subscriptions.computeIfPresent(userId, (id, userSubscriptions) -> {
+                if (userSubscriptions.remove(this))
+                    connections.decrementAndGet();
+                return userSubscriptions.isEmpty() ? null : userSubscriptions;
+            });
+
+            Future<?> running = writer;
+            if (running != null)
+                running.cancel(true);
+        }
+    }
+}
@@ -1,20 +1,27 @@
 package dev.jade.todolist.services;
 
 import dev.jade.todolist.dtos.requests.ChildTaskRequest;
+import dev.jade.todolist.dtos.requests.PageCursor;
+import dev.jade.todolist.dtos.responses.ChangeEvent.Operation;
 import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.CompletionResponse;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.DeleteResponse;
+import dev.jade.todolist.dtos.responses.ListVersion;
 import dev.jade.todolist.exceptions.EntityNotFoundException;
 import dev.jade.todolist.mapstruct.mappers.ChildTaskMapper;
 import dev.jade.todolist.models.ChildTask;
 import dev.jade.todolist.models.ParentTask;
 import dev.jade.todolist.repositories.ChildTaskRepository;
 import dev.jade.todolist.repositories.ParentTaskRepository;
-import jakarta.persistence.EntityManager;
+import dev.jade.todolist.repositories.TombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,8 +29,13 @@ public class ChildTaskService {
 
     private final ChildTaskRepository childTaskRepository;
     private final ParentTaskRepository parentTaskRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final TaskCounterService taskCounterService;
+    private final OwnershipCache ownershipCache;
+    private final ListResponseCache listResponseCache;
+    private final ListVersionService listVersionService;
+    private final ChangeEventPublisher changeEventPublisher;
     private final ChildTaskMapper mapper;
-    private final EntityManager entityManager;
 
     @Transactional
     public ChildTaskResponse createChildTask(
@@ -32,30 +44,53 @@ public class ChildTaskService {
             Long parentTaskId,
             ChildTaskRequest request) {
 
-        ParentTask parentTask = parentTaskRepository
-                .findByIdAndUserId(parentTaskId, userId)
-                .orElseThrow(() -> new EntityNotFoundException("ParentTask", "id", parentTaskId));
+        Long ownerSectionId = ownershipCache.requireParentTask(userId, parentTaskId);
+        ParentTask parentTask = parentTaskRepository.getReferenceById(parentTaskId);
 
-        ChildTask createdChildTask = mapper.toEntity(request);
-        createdChildTask.setParentTask(parentTask);
-        ChildTask saved = childTaskRepository.save(createdChildTask);
-        entityManager.refresh(saved);
-        return mapper.toResponse(saved);
+        ChildTask createdChildTask = create(userId, parentTask, request);
+        childTaskRepository.flush();
+        listVersionService.parentTaskChanged(userId, ownerSectionId, parentTaskId);
+        changeEventPublisher.childTaskSaved(userId, createdChildTask, Operation.CREATED);
+        return mapper.toResponse(createdChildTask);
     }
 
     @Transactional(readOnly = true)
-    public List<ChildTaskResponse> findChildTasksByParent(
+    public CursorPage<ChildTaskResponse> findChildTasksByParent(
             Long userId,
-            Long parentTaskId) {
+            Long parentTaskId,
+            String cursor,
+            Integer limit) {
+
+        Long sectionId = ownershipCache.requireParentTask(userId, parentTaskId);
+
+        int pageSize = CursorPage.resolveLimit(limit);
+        return listResponseCache.childTasks(userId, sectionId, parentTaskId, cursor, pageSize,
+                () -> loadChildTasks(parentTaskId, cursor, pageSize));
+    }
+
+    /**
+     * Version of the parent task's child task list; one primary key lookup, no entities loaded.
+     */
+    @Transactional(readOnly = true)
+    public ListVersion findChildTasksVersion(Long userId, Long parentTaskId) {
+        ownershipCache.requireParentTask(userId, parentTaskId);
+        return parentTaskRepository.findListVersionById(parentTaskId)
+                .orElseThrow(() -> new EntityNotFoundException("ParentTask", "id", parentTaskId));
+    }
+
+    private CursorPage<ChildTaskResponse> loadChildTasks(Long parentTaskId, String cursor, int pageSize) {
+        PageCursor after = PageCursor.decode(cursor);
+        Limit fetchLimit = Limit.of(pageSize + 1);
 
-        if (!parentTaskRepository.existsByIdAndUserId(parentTaskId, userId))
-            throw new EntityNotFoundException("ParentTask", "id", parentTaskId);
+        List<ChildTask> childTasks = after == null
+                ? childTaskRepository.findByParentTask_ParentTaskIdOrderByCreatedAtAscChildTaskIdAsc(parentTaskId, fetchLimit)
+                : childTaskRepository.findByParentTaskIdAfter(parentTaskId, after.createdAt(), after.id(), fetchLimit);
 
-        return childTaskRepository
-                .findByParentTask_ParentTaskIdOrderByCreatedAt(parentTaskId)
-                .stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+        return CursorPage.of(
+                childTasks,
+                pageSize,
+                childTask -> new PageCursor(childTask.getCreatedAt(), childTask.getChildTaskId()),
+                mapper::toResponse);
     }
 
     @Transactional
@@ -70,16 +105,75 @@ public class ChildTaskService {
                 .findByIdAndParentIdAndUserId(childTaskId, parentTaskId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("ChildTask", "id", childTaskId));
 
-        mapper.updateEntityFromRequest(request, updatedChildTask);
-        return mapper.toResponse(childTaskRepository.save(updatedChildTask));
+        updatedChildTask = update(updatedChildTask, request);
+        childTaskRepository.flush();
+        listVersionService.parentTaskChanged(userId, ownershipCache.requireParentTask(userId, parentTaskId), parentTaskId);
+        changeEventPublisher.childTaskSaved(userId, updatedChildTask, Operation.UPDATED);
+        return mapper.toResponse(updatedChildTask);
     }
 
     @Transactional
-    public void deleteChildTask(Long userId, Long childTaskId) {
+    public DeleteResponse deleteChildTask(Long userId, Long childTaskId) {
         ChildTask task = childTaskRepository
                 .findByIdAndUserId(childTaskId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("ChildTask", "id", childTaskId));
 
-        childTaskRepository.delete(task);
+        Long parentTaskId = task.getParentTask().getParentTaskId();
+        delete(task);
+        listVersionService.parentTaskChanged(userId, ownershipCache.requireParentTask(userId, parentTaskId), parentTaskId);
+        changeEventPublisher.childTaskDeleted(userId, parentTaskId, childTaskId);
+        return new DeleteResponse(0, 0, 1);
+    }
+
+    /**
+     * Completes or reopens every child task of a parent task with a single UPDATE.
+     */
+    @Transactional
+    public CompletionResponse updateCompletionByParent(
+            Long userId,
+            Long parentTaskId,
+            boolean completed) {
+
+        Long sectionId = ownershipCache.requireParentTask(userId, parentTaskId);
+
+        Instant now = Instant.now();
+        int updatedChildTasks = childTaskRepository.updateCompletionByParentTaskId(
+                parentTaskId, completed, completed ? now : null, now);
+        taskCounterService.childTaskCompletionChanged(parentTaskId, completed ? updatedChildTasks : -updatedChildTasks);
+        listVersionService.parentTaskChanged(userId, sectionId, parentTaskId);
+        changeEventPublisher.parentTaskContentsChanged(userId, sectionId, parentTaskId);
+
+        return new CompletionResponse(0, updatedChildTasks);
+    }
+
+    ChildTask create(Long userId, ParentTask parentTask, ChildTaskRequest request) {
+        ChildTask createdChildTask = mapper.toEntity(request);
+        createdChildTask.setParentTask(parentTask);
+        createdChildTask.setUserId(userId);
+        createdChildTask = childTaskRepository.save(createdChildTask);
+
+        taskCounterService.childTasksAdded(parentTask.getParentTaskId(), 1, createdChildTask.isCompleted() ? 1 : 0);
+        return createdChildTask;
+    }
+
+    ChildTask update(ChildTask childTask, ChildTaskRequest request) {
+        boolean wasCompleted = childTask.isCompleted();
+        mapper.updateEntityFromRequest(request, childTask);
+        ChildTask updatedChildTask = childTaskRepository.save(childTask);
+
+        if (updatedChildTask.isCompleted() != wasCompleted)
+            taskCounterService.childTaskCompletionChanged(
+                    updatedChildTask.getParentTask().getParentTaskId(), updatedChildTask.isCompleted() ? 1 : -1);
+        return updatedChildTask;
+    }
+
+    void delete(ChildTask childTask) {
+        tombstoneRepository.insertForChildTask(childTask.getChildTaskId(), Instant.now());
+        childTaskRepository.delete(childTask);
+        taskCounterService.childTasksRemoved(childTask.getParentTask().getParentTaskId(), 1, childTask.isCompleted() ? 1 : 0);
+    }
+
+    ChildTaskResponse toResponse(ChildTask childTask) {
+        return mapper.toResponse(childTask);
     }
 }
@@ -0,0 +1,107 @@
+package dev.jade.todolist.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.jade.todolist.mapstruct.mappers.ChildTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.ParentTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.SectionMapper;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's sections, parent tasks and child tasks as NDJSON, one record per line:
+ * <pre>
+ * {"type":"section","data":{...}}
+ * {"type":"parentTask","sectionId":10,"data":{...}}
+ * {"type":"childTask","parentTaskId":100,"data":{...}}
+ * </pre>
+ * Rows are pulled from database cursors and written straight to the output, and the
+ * persistence context is cleared periodically, so heap use stays flat for any account size.
+ */
+@Service
+@RequiredArgsConstructor
+public class DataExportService {
+
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final SectionMapper sectionMapper;
+    private final ParentTaskMapper parentTaskMapper;
+    private final ChildTaskMapper childTaskMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    // Streams to the client for as long as it reads; it stamps nothing, so the sync bound on transactions doesn't apply
+    @Transactional(readOnly = true, timeout = 600)
+    public void exportUser(Long userId, OutputStream out) throws IOException {
+        // Let the generator buffer instead of flushing the response after every record
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            try (Stream<Section> sections = sectionRepository.streamAllByUserId(userId)) {
+                writeRecords(generator, writer, "section", sections, sectionMapper::toResponse, null, null);
+            }
+            // Sections are few and small; get them to the client before the task cursors are opened
+            generator.flush();
+
+            try (Stream<ParentTask> parentTasks = parentTaskRepository.streamAllByUserId(userId)) {
+                writeRecords(generator, writer, "parentTask", parentTasks, parentTaskMapper::toResponse,
+                        "sectionId", parentTask -> parentTask.getSection().getSectionId());
+            }
+
+            try (Stream<ChildTask> childTasks = childTaskRepository.streamAllByUserId(userId)) {
+                writeRecords(generator, writer, "childTask", childTasks, childTaskMapper::toResponse,
+                        "parentTaskId", childTask -> childTask.getParentTask().getParentTaskId());
+            }
+        }
+    }
+
+    private <E> void writeRecords(
+            JsonGenerator generator,
+            ObjectWriter writer,
+            String type,
+            Stream<E> rows,
+            Function<E, ?> toResponse,
+            String ownerField,
+            Function<E, Long> ownerId) throws IOException {
+
+        int written = 0;
+        Iterator<E> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            E row = iterator.next();
+
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            if (ownerField != null)
+                generator.writeNumberField(ownerField, ownerId.apply(row));
+            generator.writeFieldName("data");
+            writer.writeValue(generator, toResponse.apply(row));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++written % CLEAR_INTERVAL == 0)
+                entityManager.clear();
+        }
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,200 @@
+package dev.jade.todolist.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per-user cache of mapped list pages. Pages loaded under an older invalidation generation are
+ * never stored, so a read racing a write cannot cache what it saw before the commit.
+ */
+@Component
+public class ListResponseCache {
+
+    // Rough per-item size of a mapped response; only used to keep the cache under its memory cap
+    private static final long ITEM_BYTES = 512;
+    private static final long PAGE_OVERHEAD_BYTES = 256;
+
+    private final boolean enabled;
+    private final int maxListsPerUser;
+    private final Cache<Long, UserLists> cache;
+    private final AtomicLong generations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ListResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.list-cache.enabled:false}") boolean enabled,
+            @Value("${app.list-cache.max-memory:64MB}") DataSize maxMemory,
+            @Value("${app.list-cache.max-lists-per-user:32}") int maxListsPerUser,
+            @Value("${app.list-cache.ttl:60s}") Duration ttl) {
+
+        this.enabled = enabled;
+        this.maxListsPerUser = maxListsPerUser;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((Long userId, UserLists lists) -> lists.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.hits = Counter.builder("list.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("list.cache.requests").tag("result", "miss").register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "list-responses");
+    }
+
+    // Reads
+
+    <T> CursorPage<T> sections(Long userId, String cursor, int limit, Supplier<CursorPage<T>> loader) {
+        return get(userId, new ListKey(ListKind.SECTIONS, userId, null, cursor, limit), loader);
+    }
+
+    <T> CursorPage<T> parentTasks(Long userId, Long sectionId, String cursor, int limit, Supplier<CursorPage<T>> loader) {
+        return get(userId, new ListKey(ListKind.PARENT_TASKS, sectionId, sectionId, cursor, limit), loader);
+    }
+
+    <T> CursorPage<T> childTasks(
+            Long userId,
+            Long sectionId,
+            Long parentTaskId,
+            String cursor,
+            int limit,
+            Supplier<CursorPage<T>> loader) {
+        return get(userId, new ListKey(ListKind.CHILD_TASKS, parentTaskId, sectionId, cursor, limit), loader);
+    }
+
+    // Invalidation; each method names what the write touched, and also covers the progress counters it moved
+
+    /**
+     * A section was created or renamed.
+     */
+    void sectionsChanged(Long userId) {
+        invalidate(userId, key -> key.kind() == ListKind.SECTIONS);
+    }
+
+    /**
+     * A section and possibly everything under it changed (delete, bulk completion).
+     */
+    void sectionChanged(Long userId, Long sectionId) {
+        invalidate(userId, key -> key.kind() == ListKind.SECTIONS || Objects.equals(key.sectionId(), sectionId));
+    }
+
+    /**
+     * A parent task in the section was created or updated.
+     */
+    void parentTasksChanged(Long userId, Long sectionId) {
+        invalidate(userId, key -> key.kind() == ListKind.SECTIONS
+                || key.kind() == ListKind.PARENT_TASKS && key.scopeId().equals(sectionId));
+    }
+
+    /**
+     * A parent task was deleted, or its child tasks changed.
+     */
+    void parentTaskChanged(Long userId, Long sectionId, Long parentTaskId) {
+        invalidate(userId, key -> key.kind() == ListKind.SECTIONS
+                || key.kind() == ListKind.PARENT_TASKS && key.scopeId().equals(sectionId)
+                || key.kind() == ListKind.CHILD_TASKS && key.scopeId().equals(parentTaskId));
+    }
+
+    /**
+     * Writes that can touch any of the user's lists (overdue completion).
+     */
+    void userChanged(Long userId) {
+        invalidate(userId, key -> true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CursorPage<T> get(Long userId, ListKey key, Supplier<CursorPage<T>> loader) {
+        if (!enabled)
+            return loader.get();
+
+        UserLists lists = cache.get(userId, id -> new UserLists(generations.get(), Map.of()));
+        CursorPage<?> cached = lists.pages().get(key);
+        if (cached != null) {
+            hits.increment();
+            return (CursorPage<T>) cached;
+        }
+        misses.increment();
+
+        long generation = lists.generation();
+        CursorPage<T> page = loader.get();
+        cache.asMap().computeIfPresent(userId, (id, current) -> current.generation() == generation
+                ? current.with(key, page, maxListsPerUser)
+                : current);
+        return page;
+    }
+
+    private void invalidate(Long userId, Predicate<ListKey> affected) {
+        if (!enabled)
+            return;
+
+        // Entries are created here too, so a read that started before an eviction still sees the new generation
+        Runnable invalidation = () -> cache.asMap().compute(userId, (id, lists) -> lists == null
+                ? new UserLists(generations.incrementAndGet(), Map.of())
+                : lists.without(affected, generations.incrementAndGet()));
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private enum ListKind {
+        SECTIONS, PARENT_TASKS, CHILD_TASKS
+    }
+
+    // scopeId is the user, section or parent task the list belongs to
+    private record ListKey(ListKind kind, Long scopeId, Long sectionId, String cursor, int limit) {
+    }
+
+    // Replaced on every change so the weigher stays accurate
+    private record UserLists(long generation, Map<ListKey, CursorPage<?>> pages) {
+
+        private UserLists with(ListKey key, CursorPage<?> page, int maxPages) {
+            Map<ListKey, CursorPage<?>> updated = new LinkedHashMap<>(pages);
+            updated.put(key, page);
+
+            Iterator<ListKey> oldest = updated.keySet().iterator();
+            while (updated.size() > maxPages) {
+                oldest.next();
+                oldest.remove();
+            }
+            return new UserLists(generation, updated);
+        }
+
+        private UserLists without(Predicate<ListKey> affected, long newGeneration) {
+            Map<ListKey, CursorPage<?>> remaining = new LinkedHashMap<>(pages);
+            remaining.keySet().removeIf(affected);
+            return new UserLists(newGeneration, remaining);
+        }
+
+        private int weight() {
+            long bytes = 0;
+            for (CursorPage<?> page : pages.values()) {
+                bytes += PAGE_OVERHEAD_BYTES + page.items().size() * ITEM_BYTES;
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Bumps the list versions behind the list endpoints' ETags and drops the same lists from ListResponseCache.
+ */
+@Service
+@RequiredArgsConstructor
+public class ListVersionService {
+
+    private final UserRepository userRepository;
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ListResponseCache listResponseCache;
+
+    // Called from inside the writing transaction; each method names what the write touched, like ListResponseCache
+
+    /**
+     * A section was created or renamed.
+     */
+    void sectionsChanged(Long userId) {
+        userRepository.bumpListVersion(userId, Instant.now());
+        listResponseCache.sectionsChanged(userId);
+    }
+
+    /**
+     * A section and everything under it was deleted.
+     */
+    void sectionDeleted(Long userId, Long sectionId) {
+        userRepository.bumpListVersion(userId, Instant.now());
+        listResponseCache.sectionChanged(userId, sectionId);
+    }
+
+    /**
+     * Everything under a section changed (bulk completion).
+     */
+    void sectionChanged(Long userId, Long sectionId) {
+        Instant now = Instant.now();
+        parentTaskRepository.bumpListVersionsBySectionId(sectionId, now);
+        sectionRepository.bumpListVersion(sectionId, now);
+        listResponseCache.sectionChanged(userId, sectionId);
+    }
+
+    /**
+     * A parent task in the section was created or updated.
+     */
+    void parentTasksChanged(Long userId, Long sectionId) {
+        sectionRepository.bumpListVersion(sectionId, Instant.now());
+        listResponseCache.parentTasksChanged(userId, sectionId);
+    }
+
+    /**
+     * The child tasks of a parent task changed.
+     */
+    void parentTaskChanged(Long userId, Long sectionId, Long parentTaskId) {
+        Instant now = Instant.now();
+        parentTaskRepository.bumpListVersion(parentTaskId, now);
+        sectionRepository.bumpListVersion(sectionId, now);
+        listResponseCache.parentTaskChanged(userId, sectionId, parentTaskId);
+    }
+
+    /**
+     * A parent task and its child tasks were deleted.
+     */
+    void parentTaskDeleted(Long userId, Long sectionId, Long parentTaskId) {
+        sectionRepository.bumpListVersion(sectionId, Instant.now());
+        listResponseCache.parentTaskChanged(userId, sectionId, parentTaskId);
+    }
+
+    /**
+     * Writes that can touch any of the user's lists (overdue completion).
+     */
+    void userChanged(Long userId) {
+        Instant now = Instant.now();
+        parentTaskRepository.bumpListVersionsByUserId(userId, now);
+        sectionRepository.bumpListVersionsByUserId(userId, now);
+        listResponseCache.userChanged(userId);
+    }
+
+    /**
+     * The counter repair rewrote child counts on some of these parent tasks; cached pages expire on their own.
+     */
+    void childCountsRepaired(Collection<Long> parentTaskIds) {
+        sectionRepository.bumpListVersionsByParentTaskIds(parentTaskIds, Instant.now());
+    }
+
+    /**
+     * The counter repair rewrote parent task counts on some of these sections; cached pages expire on their own.
+     */
+    void parentTaskCountsRepaired(Collection<Long> sectionIds) {
+        sectionRepository.bumpListVersionsByIds(sectionIds, Instant.now());
+    }
+}
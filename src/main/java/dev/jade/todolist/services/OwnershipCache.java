@@ -0,0 +1,192 @@
+package dev.jade.todolist.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-node cache of verified ownership facts: "user U owns section S" and
+ * "user U owns parent task P (in section S)".
+ * <p>
+ * Only positive answers are cached, so a miss always falls through to the database. Sections and
+ * parent tasks never change owner, which leaves deletion as the only way a fact goes stale; the
+ * delete paths evict here, and the TTL bounds how long another node can keep a fact for a deleted row.
+ * <p>
+ * Evictions go by exact key; the parent tasks cached under a section are found through an index
+ * that follows the parent task cache, so deleting a section never scans the caches.
+ * <p>
+ * A fact loaded while a delete was in flight is only cached if no eviction ran since the load
+ * began, so the delete always wins over a concurrent read.
+ */
+@Component
+public class OwnershipCache {
+
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final Cache<OwnerKey, Boolean> sections;
+    private final Cache<OwnerKey, Long> parentTaskSections;
+    // (user, section) -> ids of the parent tasks cached under it; sets are only changed inside compute()
+    private final Map<OwnerKey, Set<Long>> parentTasksBySection = new ConcurrentHashMap<>();
+    // Bumped by every eviction; loads cache under the read lock, evictions run under the write lock
+    private final AtomicLong evictions = new AtomicLong();
+    private final ReadWriteLock evictionLock = new ReentrantReadWriteLock();
+
+    public OwnershipCache(
+            SectionRepository sectionRepository,
+            ParentTaskRepository parentTaskRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.ownership-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.ownership-cache.ttl:10m}") Duration ttl) {
+
+        this.sectionRepository = sectionRepository;
+        this.parentTaskRepository = parentTaskRepository;
+        this.sections = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.parentTaskSections = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                // Runs synchronously for size and expiry evictions; explicit invalidations unindex themselves
+                .evictionListener((OwnerKey key, Long sectionId, RemovalCause cause) -> unindex(key, sectionId))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, sections, "ownership.sections");
+        CaffeineCacheMetrics.monitor(meterRegistry, parentTaskSections, "ownership.parentTasks");
+    }
+
+    void requireSection(Long userId, Long sectionId) {
+        OwnerKey key = new OwnerKey(userId, sectionId);
+        if (sections.getIfPresent(key) != null)
+            return;
+
+        long seen = evictions.get();
+        if (!sectionRepository.existsByIdAndUserId(sectionId, userId))
+            throw new EntityNotFoundException("Section", "id", sectionId);
+        cacheUnlessEvictedSince(seen, () -> sections.put(key, Boolean.TRUE));
+    }
+
+    /**
+     * @return the section the parent task belongs to
+     */
+    Long requireParentTask(Long userId, Long parentTaskId) {
+        OwnerKey key = new OwnerKey(userId, parentTaskId);
+        Long cachedSectionId = parentTaskSections.getIfPresent(key);
+        if (cachedSectionId != null)
+            return cachedSectionId;
+
+        long seen = evictions.get();
+        Long sectionId = parentTaskRepository
+                .findSectionIdByIdAndUserId(parentTaskId, userId)
+                .orElseThrow(() -> new EntityNotFoundException("ParentTask", "id", parentTaskId));
+        cacheUnlessEvictedSince(seen, () -> cacheParentTask(key, sectionId));
+        return sectionId;
+    }
+
+    /**
+     * Records ownership of a row the user has just created.
+     */
+    void sectionCreated(Long userId, Long sectionId) {
+        sections.put(new OwnerKey(userId, sectionId), Boolean.TRUE);
+    }
+
+    void parentTaskCreated(Long userId, Long parentTaskId, Long sectionId) {
+        cacheParentTask(new OwnerKey(userId, parentTaskId), sectionId);
+    }
+
+    /**
+     * Drops the section and every parent task cached under it, now and again once the
+     * transaction completes, so a concurrent read cannot re-cache a row that is being deleted.
+     */
+    void evictSection(Long userId, Long sectionId) {
+        OwnerKey sectionKey = new OwnerKey(userId, sectionId);
+        evictNowAndAfterCompletion(() -> {
+            sections.invalidate(sectionKey);
+            Set<Long> parentTaskIds = parentTasksBySection.remove(sectionKey);
+            if (parentTaskIds != null)
+                parentTaskSections.invalidateAll(parentTaskIds.stream()
+                        .map(parentTaskId -> new OwnerKey(userId, parentTaskId))
+                        .toList());
+        });
+    }
+
+    void evictParentTask(Long userId, Long parentTaskId) {
+        OwnerKey key = new OwnerKey(userId, parentTaskId);
+        evictNowAndAfterCompletion(() -> {
+            Long sectionId = parentTaskSections.asMap().remove(key);
+            if (sectionId != null)
+                unindex(key, sectionId);
+        });
+    }
+
+    private void cacheParentTask(OwnerKey key, Long sectionId) {
+        parentTaskSections.put(key, sectionId);
+        parentTasksBySection.compute(new OwnerKey(key.userId(), sectionId), (sectionKey, parentTaskIds) -> {
+            Set<Long> ids = parentTaskIds != null ? parentTaskIds : new HashSet<>();
+            ids.add(key.id());
+            return ids;
+        });
+    }
+
+    private void unindex(OwnerKey key, Long sectionId) {
+        parentTasksBySection.computeIfPresent(new OwnerKey(key.userId(), sectionId), (sectionKey, parentTaskIds) -> {
+            parentTaskIds.remove(key.id());
+            return parentTaskIds.isEmpty() ? null : parentTaskIds;
+        });
+    }
+
+    private void cacheUnlessEvictedSince(long seen, Runnable put) {
+        evictionLock.readLock().lock();
+        try {
+            if (evictions.get() == seen)
+                put.run();
+        } finally {
+            evictionLock.readLock().unlock();
+        }
+    }
+
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        evict(eviction);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(eviction);
+                }
+            });
+        }
+    }
+
+    private void evict(Runnable eviction) {
+        evictionLock.writeLock().lock();
+        try {
+            evictions.incrementAndGet();
+            eviction.run();
+        } finally {
+            evictionLock.writeLock().unlock();
+        }
+    }
+
+    private record OwnerKey(Long userId, Long id) {
+    }
+}
@@ -1,20 +1,28 @@
 package dev.jade.todolist.services;
 
+import dev.jade.todolist.dtos.requests.PageCursor;
 import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import dev.jade.todolist.dtos.responses.ChangeEvent.Operation;
+import dev.jade.todolist.dtos.responses.CompletionResponse;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.DeleteResponse;
+import dev.jade.todolist.dtos.responses.ListVersion;
 import dev.jade.todolist.dtos.responses.ParentTaskResponse;
 import dev.jade.todolist.exceptions.EntityNotFoundException;
 import dev.jade.todolist.mapstruct.mappers.ParentTaskMapper;
 import dev.jade.todolist.models.ParentTask;
 import dev.jade.todolist.models.Section;
+import dev.jade.todolist.repositories.ChildTaskRepository;
 import dev.jade.todolist.repositories.ParentTaskRepository;
 import dev.jade.todolist.repositories.SectionRepository;
-import jakarta.persistence.EntityManager;
+import dev.jade.todolist.repositories.TombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,8 +30,14 @@ public class ParentTaskService {
 
     private final ParentTaskRepository parentTaskRepository;
     private final SectionRepository sectionRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final TaskCounterService taskCounterService;
+    private final OwnershipCache ownershipCache;
+    private final ListResponseCache listResponseCache;
+    private final ListVersionService listVersionService;
+    private final ChangeEventPublisher changeEventPublisher;
     private final ParentTaskMapper mapper;
-    private final EntityManager entityManager;
 
     @Transactional
     public ParentTaskResponse createParentTask(
@@ -31,29 +45,53 @@ public class ParentTaskService {
             Long sectionId,
             ParentTaskRequest request) {
 
-        Section section = sectionRepository
-                .findByIdAndUserId(sectionId, userId)
-                .orElseThrow(() -> new EntityNotFoundException("Section", "id", sectionId));
+        ownershipCache.requireSection(userId, sectionId);
+        Section section = sectionRepository.getReferenceById(sectionId);
 
-        ParentTask createdParentTask = mapper.toEntity(request);
-        createdParentTask.setSection(section);
-        ParentTask saved = parentTaskRepository.save(createdParentTask);
-        entityManager.refresh(saved);
-        return mapper.toResponse(saved);
+        ParentTask createdParentTask = create(userId, section, request);
+        parentTaskRepository.flush();
+        ownershipCache.parentTaskCreated(userId, createdParentTask.getParentTaskId(), sectionId);
+        listVersionService.parentTasksChanged(userId, sectionId);
+        changeEventPublisher.parentTaskSaved(userId, createdParentTask, Operation.CREATED);
+        return mapper.toResponse(createdParentTask);
     }
 
     @Transactional(readOnly = true)
-    public List<ParentTaskResponse> findParentTasksBySection(
+    public CursorPage<ParentTaskResponse> findParentTasksBySection(
             Long userId,
-            Long sectionId) {
-        if (!sectionRepository.existsByIdAndUserId(sectionId, userId))
-            throw new EntityNotFoundException("Section", "id", sectionId);
-
-        return parentTaskRepository
-                .findBySection_SectionIdOrderByCreatedAt(sectionId)
-                .stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+            Long sectionId,
+            String cursor,
+            Integer limit) {
+        ownershipCache.requireSection(userId, sectionId);
+
+        int pageSize = CursorPage.resolveLimit(limit);
+        return listResponseCache.parentTasks(userId, sectionId, cursor, pageSize,
+                () -> loadParentTasks(sectionId, cursor, pageSize));
+    }
+
+    /**
+     * Version of the section's parent task list; one primary key lookup, no entities loaded.
+     */
+    @Transactional(readOnly = true)
+    public ListVersion findParentTasksVersion(Long userId, Long sectionId) {
+        ownershipCache.requireSection(userId, sectionId);
+        return sectionRepository.findListVersionById(sectionId)
+                .orElseThrow(() -> new EntityNotFoundException("Section", "id", sectionId));
+    }
+
+    private CursorPage<ParentTaskResponse> loadParentTasks(Long sectionId, String cursor, int pageSize) {
+        PageCursor after = PageCursor.decode(cursor);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<ParentTask> parentTasks = after == null
+                ? parentTaskRepository.findBySection_SectionIdOrderByCreatedAtAscParentTaskIdAsc(sectionId, fetchLimit)
+                : parentTaskRepository.findBySectionIdAfter(sectionId, after.createdAt(), after.id(), fetchLimit);
+
+        return CursorPage.of(
+                parentTasks,
+                pageSize,
+                parentTask -> new PageCursor(parentTask.getCreatedAt(), parentTask.getParentTaskId()),
+                mapper::toResponse);
     }
 
     @Transactional
@@ -67,19 +105,114 @@ public class ParentTaskService {
                 .findByIdAndUserId(parentTaskId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("ParentTask", "id", parentTaskId));
 
-        mapper.updateEntityFromRequest(request, updatedParentTask);
-        return mapper.toResponse(parentTaskRepository.save(updatedParentTask));
+        updatedParentTask = update(updatedParentTask, request);
+        parentTaskRepository.flush();
+        listVersionService.parentTasksChanged(userId, updatedParentTask.getSection().getSectionId());
+        changeEventPublisher.parentTaskSaved(userId, updatedParentTask, Operation.UPDATED);
+        return mapper.toResponse(updatedParentTask);
     }
 
+    /**
+     * Deletes a parent task and its child tasks with one bulk statement per level, plus one
+     * tombstone insert per level for delta sync, without loading any of the children.
+     */
     @Transactional
-    public void deleteParentTask(
+    public DeleteResponse deleteParentTask(
             Long userId,
             Long parentTaskId) {
 
-        ParentTask deletedParentTask = parentTaskRepository
+        ParentTask parentTask = parentTaskRepository
                 .findByIdAndUserId(parentTaskId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("ParentTask", "id", parentTaskId));
+        Long sectionId = parentTask.getSection().getSectionId();
+        DeleteResponse deleted = deleteSubtree(userId, parentTask);
+        listVersionService.parentTaskDeleted(userId, sectionId, parentTaskId);
+        changeEventPublisher.parentTaskDeleted(userId, sectionId, parentTaskId);
+        return deleted;
+    }
+
+    /**
+     * Completes or reopens every parent and child task in a section, one UPDATE per level.
+     */
+    @Transactional
+    public CompletionResponse updateCompletionBySection(
+            Long userId,
+            Long sectionId,
+            boolean completed) {
+
+        ownershipCache.requireSection(userId, sectionId);
+
+        Instant now = Instant.now();
+        Instant completedAt = completed ? now : null;
+        int updatedChildTasks = childTaskRepository.updateCompletionBySectionId(sectionId, completed, completedAt, now);
+        int updatedParentTasks = parentTaskRepository.updateCompletionBySectionId(sectionId, completed, completedAt, now);
+        taskCounterService.sectionCompletionChanged(sectionId);
+        listVersionService.sectionChanged(userId, sectionId);
+        changeEventPublisher.sectionContentsChanged(userId, sectionId);
+
+        return new CompletionResponse(updatedParentTasks, updatedChildTasks);
+    }
+
+    /**
+     * Completes or reopens every task of the user whose deadline has passed, one UPDATE per level.
+     * Each level is matched on its own deadline, so an overdue child task is updated even if its parent is not overdue.
+     */
+    @Transactional
+    public CompletionResponse updateCompletionOfOverdue(
+            Long userId,
+            boolean completed) {
+
+        Instant now = Instant.now();
+        Instant completedAt = completed ? now : null;
+        int updatedChildTasks = childTaskRepository.updateCompletionOfOverdueByUserId(userId, completed, completedAt, now);
+        int updatedParentTasks = parentTaskRepository.updateCompletionOfOverdueByUserId(userId, completed, completedAt, now);
+        taskCounterService.userCompletionChanged(userId);
+        listVersionService.userChanged(userId);
+        changeEventPublisher.userChanged(userId);
+
+        return new CompletionResponse(updatedParentTasks, updatedChildTasks);
+    }
+
+    ParentTask create(Long userId, Section section, ParentTaskRequest request) {
+        ParentTask createdParentTask = mapper.toEntity(request);
+        createdParentTask.setSection(section);
+        createdParentTask.setUserId(userId);
+        createdParentTask = parentTaskRepository.save(createdParentTask);
+
+        taskCounterService.parentTasksAdded(section.getSectionId(), 1, createdParentTask.isCompleted() ? 1 : 0);
+        return createdParentTask;
+    }
+
+    ParentTask update(ParentTask parentTask, ParentTaskRequest request) {
+        boolean wasCompleted = parentTask.isCompleted();
+        mapper.updateEntityFromRequest(request, parentTask);
+        ParentTask updatedParentTask = parentTaskRepository.save(parentTask);
+
+        if (updatedParentTask.isCompleted() != wasCompleted)
+            taskCounterService.parentTaskCompletionChanged(
+                    updatedParentTask.getSection().getSectionId(), updatedParentTask.isCompleted() ? 1 : -1);
+        return updatedParentTask;
+    }
+
+    DeleteResponse deleteSubtree(Long userId, ParentTask parentTask) {
+        Long parentTaskId = parentTask.getParentTaskId();
+        Long sectionId = parentTask.getSection().getSectionId();
+        boolean completed = parentTask.isCompleted();
+
+        Instant now = Instant.now();
+        tombstoneRepository.insertForChildTasksOfParentTask(parentTaskId, now);
+        tombstoneRepository.insertForParentTask(parentTaskId, now);
+
+        int deletedChildTasks = childTaskRepository.deleteAllByParentTaskIdInBulk(parentTaskId);
+        int deletedParentTasks = parentTaskRepository.deleteByIdInBulk(parentTaskId);
+        ownershipCache.evictParentTask(userId, parentTaskId);
+        if (deletedParentTasks > 0)
+            taskCounterService.parentTasksRemoved(sectionId, deletedParentTasks, completed ? deletedParentTasks : 0);
+
+        return new DeleteResponse(0, deletedParentTasks, deletedChildTasks);
+    }
 
-        parentTaskRepository.delete(deletedParentTask);
+    ParentTaskResponse toResponse(ParentTask parentTask) {
+        return mapper.toResponse(parentTask);
     }
 }
@@ -1,19 +1,28 @@
 package dev.jade.todolist.services;
 
+import dev.jade.todolist.dtos.requests.PageCursor;
 import dev.jade.todolist.dtos.requests.SectionRequest;
+import dev.jade.todolist.dtos.responses.ChangeEvent.Operation;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.DeleteResponse;
+import dev.jade.todolist.dtos.responses.ListVersion;
 import dev.jade.todolist.dtos.responses.SectionResponse;
 import dev.jade.todolist.exceptions.EntityNotFoundException;
 import dev.jade.todolist.mapstruct.mappers.SectionMapper;
 import dev.jade.todolist.models.Section;
 import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
 import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.repositories.TombstoneRepository;
 import dev.jade.todolist.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +30,13 @@ public class SectionService {
 
     private final SectionRepository sectionRepository;
     private final UserRepository userRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final OwnershipCache ownershipCache;
+    private final ListResponseCache listResponseCache;
+    private final ListVersionService listVersionService;
+    private final ChangeEventPublisher changeEventPublisher;
     private final SectionMapper mapper;
 
     @Transactional
@@ -32,22 +48,49 @@ public class SectionService {
                 .findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User", "id", userId));
 
-        Section createdSection = mapper.toEntity(request);
-        createdSection.setUser(user);
-        return mapper.toResponse(sectionRepository.save(createdSection));
+        Section createdSection = create(user, request);
+        sectionRepository.flush();
+        ownershipCache.sectionCreated(userId, createdSection.getSectionId());
+        listVersionService.sectionsChanged(userId);
+        changeEventPublisher.sectionSaved(userId, createdSection, Operation.CREATED);
+        return mapper.toResponse(createdSection);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SectionResponse> findSectionsByUser(
+            Long userId,
+            String cursor,
+            Integer limit) {
+
+        int pageSize = CursorPage.resolveLimit(limit);
+        return listResponseCache.sections(userId, cursor, pageSize, () -> loadSections(userId, cursor, pageSize));
     }
 
+    /**
+     * Version of the user's section list; one primary key lookup, no entities loaded.
+     */
     @Transactional(readOnly = true)
-    public List<SectionResponse> findSectionsByUser(Long userId) {
+    public ListVersion findSectionsVersion(Long userId) {
+        return userRepository.findListVersionById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("User", "id", userId));
+    }
 
+    private CursorPage<SectionResponse> loadSections(Long userId, String cursor, int pageSize) {
         if (!userRepository.existsById(userId))
             throw new EntityNotFoundException("User", "id", userId);
 
-        return sectionRepository
-                .findByUser_UserIdOrderByCreatedAt(userId)
-                .stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+        PageCursor after = PageCursor.decode(cursor);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<Section> sections = after == null
+                ? sectionRepository.findByUser_UserIdOrderByCreatedAtAscSectionIdAsc(userId, fetchLimit)
+                : sectionRepository.findByUserIdAfter(userId, after.createdAt(), after.id(), fetchLimit);
+
+        return CursorPage.of(
+                sections,
+                pageSize,
+                section -> new PageCursor(section.getCreatedAt(), section.getSectionId()),
+                mapper::toResponse);
     }
 
     @Transactional
@@ -60,19 +103,55 @@ public class SectionService {
                 .findByIdAndUserId(sectionId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("Section", "id", sectionId));
 
-        mapper.updateEntityFromRequest(request, updatedSection);
-        return mapper.toResponse(sectionRepository.save(updatedSection));
+        updatedSection = update(updatedSection, request);
+        sectionRepository.flush();
+        listVersionService.sectionsChanged(userId);
+        changeEventPublisher.sectionSaved(userId, updatedSection, Operation.UPDATED);
+        return mapper.toResponse(updatedSection);
     }
 
+    /**
+     * Deletes a section and its whole subtree with one bulk statement per level, plus one
+     * tombstone insert per level for delta sync, without loading any of the descendants.
+     */
     @Transactional
-    public void deleteSection(
+    public DeleteResponse deleteSection(
             Long userId,
             Long sectionId) {
 
-        Section deletedSection = sectionRepository
-                .findByIdAndUserId(sectionId, userId)
-                .orElseThrow(() -> new EntityNotFoundException("Section", "id", sectionId));
+        ownershipCache.requireSection(userId, sectionId);
+        DeleteResponse deleted = deleteSubtree(userId, sectionId);
+        listVersionService.sectionDeleted(userId, sectionId);
+        changeEventPublisher.sectionDeleted(userId, sectionId);
+        return deleted;
+    }
+
+    Section create(User user, SectionRequest request) {
+        Section createdSection = mapper.toEntity(request);
+        createdSection.setUser(user);
+        return sectionRepository.save(createdSection);
+    }
+
+    Section update(Section section, SectionRequest request) {
+        mapper.updateEntityFromRequest(request, section);
+        return sectionRepository.save(section);
+    }
+
+    DeleteResponse deleteSubtree(Long userId, Long sectionId) {
+        Instant now = Instant.now();
+        tombstoneRepository.insertForChildTasksOfSection(sectionId, now);
+        tombstoneRepository.insertForParentTasksOfSection(sectionId, now);
+        tombstoneRepository.insertForSection(sectionId, now);
+
+        int deletedChildTasks = childTaskRepository.deleteAllBySectionIdInBulk(sectionId);
+        int deletedParentTasks = parentTaskRepository.deleteAllBySectionIdInBulk(sectionId);
+        int deletedSections = sectionRepository.deleteByIdInBulk(sectionId);
+        ownershipCache.evictSection(userId, sectionId);
+
+        return new DeleteResponse(deletedSections, deletedParentTasks, deletedChildTasks);
+    }
 
-        sectionRepository.delete(deletedSection);
+    SectionResponse toResponse(Section section) {
+        return mapper.toResponse(section);
     }
 }
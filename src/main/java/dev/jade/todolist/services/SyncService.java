@@ -0,0 +1,162 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.requests.SyncCursor;
+import dev.jade.todolist.dtos.requests.SyncCursor.Position;
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.dtos.responses.SectionResponse;
+import dev.jade.todolist.dtos.responses.SyncResponse;
+import dev.jade.todolist.exceptions.SyncCursorExpiredException;
+import dev.jade.todolist.mapstruct.mappers.ChildTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.ParentTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.SectionMapper;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.models.Tombstone;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.repositories.TombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Delta sync: the sections, parent tasks and child tasks a user changed since a cursor, plus the
+ * ids of the ones deleted, read as four keyset range scans of at most {@code limit} rows each.
+ * <p>
+ * {@code updated_at} is stamped before commit, so a slow transaction can commit a row that sorts
+ * before rows other clients have already seen. A cursor therefore never advances past
+ * {@code app.sync.settle-time} ago, whether the stream was drained or the page was full; newer rows
+ * are sent again on the next call. That only covers transactions shorter than the settle time, which
+ * {@code spring.transaction.default-timeout} enforces; a row committed later than that is never synced.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final SectionMapper sectionMapper;
+    private final ParentTaskMapper parentTaskMapper;
+    private final ChildTaskMapper childTaskMapper;
+
+    @Value("${app.sync.settle-time:5s}")
+    private Duration settleTime;
+
+    @Value("${app.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Transactional(readOnly = true)
+    public SyncResponse findChanges(Long userId, String since, Integer limit) {
+        SyncCursor cursor = SyncCursor.decode(since);
+        int pageSize = CursorPage.resolveLimit(limit);
+        Instant now = Instant.now();
+        Position settled = Position.through(now.minus(settleTime));
+
+        // A first sync returns every row, so it has no use for the deletions that happened before it
+        if (cursor == null)
+            cursor = new SyncCursor(Position.START, Position.START, Position.START, settled);
+        else if (cursor.tombstones().at().isBefore(now.minus(tombstoneRetention)))
+            throw new SyncCursorExpiredException();
+
+        StreamPage<Section> sections = StreamPage.read(cursor.sections(), pageSize, settled,
+                from -> sectionRepository.findChangedByUserIdAfter(userId, from.at(), from.id(), Limit.of(pageSize + 1)),
+                section -> new Position(section.getUpdatedAt(), section.getSectionId()));
+        StreamPage<ParentTask> parentTasks = StreamPage.read(cursor.parentTasks(), pageSize, settled,
+                from -> parentTaskRepository.findChangedByUserIdAfter(userId, from.at(), from.id(), Limit.of(pageSize + 1)),
+                parentTask -> new Position(parentTask.getUpdatedAt(), parentTask.getParentTaskId()));
+        StreamPage<ChildTask> childTasks = StreamPage.read(cursor.childTasks(), pageSize, settled,
+                from -> childTaskRepository.findChangedByUserIdAfter(userId, from.at(), from.id(), Limit.of(pageSize + 1)),
+                childTask -> new Position(childTask.getUpdatedAt(), childTask.getChildTaskId()));
+        StreamPage<Tombstone> tombstones = StreamPage.read(cursor.tombstones(), pageSize, settled,
+                from -> tombstoneRepository.findByUserIdAfter(userId, from.at(), from.id(), Limit.of(pageSize + 1)),
+                tombstone -> new Position(tombstone.getDeletedAt(), tombstone.getTombstoneId()));
+
+        List<SectionResponse> sectionResponses = sections.rows().stream().map(sectionMapper::toResponse).toList();
+        List<ParentTaskResponse> parentTaskResponses = parentTasks.rows().stream().map(parentTaskMapper::toResponse).toList();
+        List<ChildTaskResponse> childTaskResponses = childTasks.rows().stream().map(childTaskMapper::toResponse).toList();
+
+        List<Long> deletedSectionIds = new ArrayList<>();
+        List<Long> deletedParentTaskIds = new ArrayList<>();
+        List<Long> deletedChildTaskIds = new ArrayList<>();
+        for (Tombstone tombstone : tombstones.rows()) {
+            switch (tombstone.getEntityType()) {
+                case SECTION -> deletedSectionIds.add(tombstone.getEntityId());
+                case PARENT_TASK -> deletedParentTaskIds.add(tombstone.getEntityId());
+                case CHILD_TASK -> deletedChildTaskIds.add(tombstone.getEntityId());
+            }
+        }
+
+        SyncCursor next = new SyncCursor(sections.next(), parentTasks.next(), childTasks.next(), tombstones.next());
+        boolean hasMore = sections.hasMore() || parentTasks.hasMore() || childTasks.hasMore() || tombstones.hasMore();
+
+        return new SyncResponse(
+                sectionResponses,
+                parentTaskResponses,
+                childTaskResponses,
+                deletedSectionIds,
+                deletedParentTaskIds,
+                deletedChildTaskIds,
+                next.encode(),
+                hasMore
+        );
+    }
+
+    /**
+     * Drops tombstones past {@code app.sync.tombstone-retention}; cursors older than that get 410 Gone.
+     */
+    @Scheduled(cron = "${app.sync.tombstone-purge-cron:-}")
+    @Transactional
+    public int purgeTombstones() {
+        int purged = tombstoneRepository.deleteAllDeletedBefore(Instant.now().minus(tombstoneRetention));
+        if (purged > 0)
+            log.info("Purged {} tombstones older than {}", purged, tombstoneRetention);
+        return purged;
+    }
+
+    /**
+     * One page of a sync stream and the position to resume it from.
+     */
+    private record StreamPage<E>(List<E> rows, Position next, boolean hasMore) {
+
+        private static <E> StreamPage<E> read(
+                Position from,
+                int pageSize,
+                Position settled,
+                Function<Position, List<E>> query,
+                Function<E, Position> positionOf) {
+
+            List<E> rows = query.apply(from);
+            if (rows.size() > pageSize) {
+                List<E> page = rows.subList(0, pageSize);
+                Position last = positionOf.apply(page.getLast());
+                if (!last.isAfter(settled))
+                    return new StreamPage<>(page, last, true);
+
+                // The page reaches past the settle horizon: the unsettled rows come again on a later
+                // call, so a client polling with hasMore=false waits for them to settle
+                rows = page;
+            }
+
+            // Resume from the settle horizon, but never move backwards
+            Position next = settled.isAfter(from) ? settled : from;
+            return new StreamPage<>(rows, next, false);
+        }
+    }
+}
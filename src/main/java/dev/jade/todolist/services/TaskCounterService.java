@@ -0,0 +1,133 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps the progress counters on parent tasks and sections in step with the tasks: one atomic
+ * increment per single-task write, one set-based recount per bulk write.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskCounterService {
+
+    private final ParentTaskRepository parentTaskRepository;
+    private final SectionRepository sectionRepository;
+    private final ListVersionService listVersionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.auto-complete-parent:false}")
+    private boolean autoCompleteParent;
+
+    @Value("${app.counters.repair-batch-size:500}")
+    private int repairBatchSize;
+
+    // Called from inside the writing transaction
+
+    void childTasksAdded(Long parentTaskId, int added, int completed) {
+        parentTaskRepository.adjustChildCounts(parentTaskId, added, completed, Instant.now());
+    }
+
+    void childTasksRemoved(Long parentTaskId, int removed, int completed) {
+        parentTaskRepository.adjustChildCounts(parentTaskId, -removed, -completed, Instant.now());
+    }
+
+    /**
+     * @param completedDelta child tasks that became completed minus those that were reopened
+     */
+    void childTaskCompletionChanged(Long parentTaskId, int completedDelta) {
+        if (completedDelta == 0)
+            return;
+
+        Instant now = Instant.now();
+        parentTaskRepository.adjustChildCounts(parentTaskId, 0, completedDelta, now);
+
+        // Completing the last open child task completes the parent
+        if (completedDelta > 0 && autoCompleteParent
+                && parentTaskRepository.completeIfAllChildTasksCompleted(parentTaskId, now) > 0)
+            sectionRepository.adjustCompletedParentTaskCountOfParentTask(parentTaskId, 1, now);
+    }
+
+    void parentTasksAdded(Long sectionId, int added, int completed) {
+        sectionRepository.adjustParentTaskCounts(sectionId, added, completed, Instant.now());
+    }
+
+    void parentTasksRemoved(Long sectionId, int removed, int completed) {
+        sectionRepository.adjustParentTaskCounts(sectionId, -removed, -completed, Instant.now());
+    }
+
+    void parentTaskCompletionChanged(Long sectionId, int completedDelta) {
+        if (completedDelta != 0)
+            sectionRepository.adjustParentTaskCounts(sectionId, 0, completedDelta, Instant.now());
+    }
+
+    void sectionCompletionChanged(Long sectionId) {
+        Instant now = Instant.now();
+        parentTaskRepository.recountCompletedChildTasksBySectionId(sectionId, now);
+        sectionRepository.recountCompletedParentTasksBySectionId(sectionId, now);
+    }
+
+    void userCompletionChanged(Long userId) {
+        Instant now = Instant.now();
+        parentTaskRepository.recountCompletedChildTasksByUserId(userId, now);
+        if (autoCompleteParent)
+            parentTaskRepository.completeAllWithAllChildTasksCompletedByUserId(userId, now);
+        sectionRepository.recountCompletedParentTasksByUserId(userId, now);
+    }
+
+    /**
+     * Recomputes every counter from the task tables and returns how many rows were off.
+     */
+    @Scheduled(cron = "${app.counters.repair-cron:-}")
+    public int repairCounters() {
+        int repairedParentTasks = repair(parentTaskRepository::findIdsAfter,
+                ids -> parentTaskRepository.recountChildCountsByIds(ids, Instant.now()),
+                listVersionService::childCountsRepaired);
+        int repairedSections = repair(sectionRepository::findIdsAfter,
+                ids -> sectionRepository.recountParentTaskCountsByIds(ids, Instant.now()),
+                listVersionService::parentTaskCountsRepaired);
+
+        if (repairedParentTasks + repairedSections > 0)
+            log.warn("Repaired progress counters on {} parent tasks and {} sections", repairedParentTasks, repairedSections);
+        return repairedParentTasks + repairedSections;
+    }
+
+    private int repair(
+            BiFunction<Long, Limit, List<Long>> nextIds,
+            Function<Collection<Long>, Integer> recount,
+            Consumer<Collection<Long>> onRepaired) {
+        int repaired = 0;
+        Long afterId = 0L;
+
+        while (true) {
+            List<Long> ids = nextIds.apply(afterId, Limit.of(repairBatchSize));
+            if (ids.isEmpty())
+                return repaired;
+
+            // The lists showing a repaired counter get a new version in the same transaction
+            Integer fixed = transactionTemplate.execute(status -> {
+                int count = recount.apply(ids);
+                if (count > 0)
+                    onRepaired.accept(ids);
+                return count;
+            });
+            repaired += fixed == null ? 0 : fixed;
+            afterId = ids.getLast();
+        }
+    }
+}
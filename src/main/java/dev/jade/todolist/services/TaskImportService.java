@@ -0,0 +1,289 @@
+package dev.jade.todolist.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import dev.jade.todolist.dtos.requests.ChildTaskRequest;
+import dev.jade.todolist.dtos.requests.ParentTaskImportRequest;
+import dev.jade.todolist.dtos.responses.ImportLineError;
+import dev.jade.todolist.dtos.responses.ImportResponse;
+import dev.jade.todolist.mapstruct.mappers.ChildTaskMapper;
+import dev.jade.todolist.mapstruct.mappers.ParentTaskMapper;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams parent tasks (with nested child tasks) from NDJSON or CSV into a section.
+ * <p>
+ * Records are read one at a time, validated with the same constraints as the regular
+ * endpoints and written in fixed-size batches, each in its own transaction, so memory use
+ * does not grow with the size of the upload. Invalid records are skipped and reported by line.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    /**
+     * Rows (parent plus child tasks) written per transaction.
+     */
+    public static final int BATCH_SIZE = 500;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final ParentTaskMapper parentTaskMapper;
+    private final ChildTaskMapper childTaskMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TaskCounterService taskCounterService;
+    private final OwnershipCache ownershipCache;
+    private final ListVersionService listVersionService;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Imports one JSON object per line, shaped like {@link ParentTaskImportRequest}.
+     */
+    public ImportResponse importNdjson(Long userId, Long sectionId, InputStream body) throws IOException {
+        ImportRun run = startRun(userId, sectionId);
+
+        try (MappingIterator<JsonNode> records = objectMapper.readerFor(JsonNode.class).readValues(body)) {
+            while (true) {
+                long line = records.getCurrentLocation().getLineNr();
+                JsonNode node;
+                try {
+                    if (!records.hasNextValue())
+                        break;
+                    line = records.getParser().currentTokenLocation().getLineNr();
+                    node = records.nextValue();
+                } catch (JsonProcessingException ex) {
+                    // The stream cannot be resynchronised after malformed JSON
+                    run.reject(line, "Malformed JSON, import stopped: " + ex.getOriginalMessage(), null);
+                    break;
+                }
+
+                ParentTaskImportRequest request = run.bind(line, node, ParentTaskImportRequest.class);
+                if (request != null && run.validate(line, request))
+                    run.add(request);
+            }
+        }
+
+        return run.finish();
+    }
+
+    /**
+     * Imports a CSV with a {@code type,title,deadline,priority,isCompleted} header.
+     * <p>
+     * A {@code parent} row starts a new parent task; the {@code child} rows that follow it are its child tasks.
+     */
+    public ImportResponse importCsv(Long userId, Long sectionId, InputStream body) throws IOException {
+        ImportRun run = startRun(userId, sectionId);
+
+        ParentTaskImportRequest current = null;
+        long currentLine = 0;
+        boolean currentRejected = false;
+
+        try (MappingIterator<Map<String, String>> rows = CSV_MAPPER
+                .readerForMapOf(String.class)
+                .with(CSV_SCHEMA)
+                .readValues(body)) {
+            while (true) {
+                long line = rows.getCurrentLocation().getLineNr();
+                Map<String, String> row;
+                try {
+                    if (!rows.hasNextValue())
+                        break;
+                    // The CSV parser's token location lags a line behind; its read position is the row start
+                    line = rows.getParser().currentLocation().getLineNr();
+                    row = rows.nextValue();
+                } catch (JsonProcessingException ex) {
+                    run.reject(line, "Malformed CSV, import stopped: " + ex.getOriginalMessage(), null);
+                    break;
+                }
+
+                String type = row.getOrDefault("type", "").trim().toLowerCase();
+                switch (type) {
+                    case "parent" -> {
+                        if (current != null && run.validate(currentLine, current))
+                            run.add(current);
+                        currentLine = line;
+                        current = run.bind(line, toNode(row, "parentTaskTitle"), ParentTaskImportRequest.class);
+                        currentRejected = current == null;
+                    }
+                    case "child" -> {
+                        if (current == null) {
+                            run.reject(line, currentRejected
+                                    ? "Parent task on line " + currentLine + " was rejected"
+                                    : "Child task row without a preceding parent task", null);
+                            continue;
+                        }
+                        ChildTaskRequest child = run.bind(line, toNode(row, "childTaskTitle"), ChildTaskRequest.class);
+                        if (child != null && run.validate(line, child))
+                            current.getChildTasks().add(child);
+                    }
+                    default -> run.reject(line, "Row type must be 'parent' or 'child'", null);
+                }
+            }
+        }
+
+        if (current != null && run.validate(currentLine, current))
+            run.add(current);
+
+        return run.finish();
+    }
+
+    private ImportRun startRun(Long userId, Long sectionId) {
+        ownershipCache.requireSection(userId, sectionId);
+
+        return new ImportRun(userId, sectionId);
+    }
+
+    private ObjectNode toNode(Map<String, String> row, String titleField) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put(titleField, row.get("title"));
+        putIfPresent(node, "deadline", row.get("deadline"));
+        putIfPresent(node, "priority", row.get("priority"));
+        putIfPresent(node, "isCompleted", row.get("isCompleted"));
+        return node;
+    }
+
+    private void putIfPresent(ObjectNode node, String field, String value) {
+        if (value != null && !value.isBlank())
+            node.put(field, value.trim());
+    }
+
+    private void writeBatch(Long userId, Long sectionId, List<ParentTaskImportRequest> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Section section = sectionRepository.getReferenceById(sectionId);
+            List<ParentTask> parentTasks = new ArrayList<>(batch.size());
+            List<ChildTask> childTasks = new ArrayList<>();
+            int completedParentTasks = 0;
+
+            for (ParentTaskImportRequest request : batch) {
+                ParentTask parentTask = parentTaskMapper.toEntity(request);
+                parentTask.setSection(section);
+                parentTask.setUserId(userId);
+                parentTasks.add(parentTask);
+                if (parentTask.isCompleted())
+                    completedParentTasks++;
+
+                for (ChildTaskRequest childRequest : request.getChildTasks()) {
+                    ChildTask childTask = childTaskMapper.toEntity(childRequest);
+                    childTask.setParentTask(parentTask);
+                    childTask.setUserId(userId);
+                    childTasks.add(childTask);
+                    if (childTask.isCompleted())
+                        parentTask.setCompletedChildCount(parentTask.getCompletedChildCount() + 1);
+                }
+                // New parents are inserted with their final counters, so only the section needs an update
+                parentTask.setChildCount(request.getChildTasks().size());
+            }
+
+            parentTaskRepository.saveAll(parentTasks);
+            childTaskRepository.saveAll(childTasks);
+            taskCounterService.parentTasksAdded(sectionId, parentTasks.size(), completedParentTasks);
+            listVersionService.parentTasksChanged(userId, sectionId);
+            changeEventPublisher.sectionContentsChanged(userId, sectionId);
+        });
+    }
+
+    /**
+     * State of a single import: the pending batch and the running report.
+     */
+    private final class ImportRun {
+
+        private final Long userId;
+        private final Long sectionId;
+        private final List<ParentTaskImportRequest> batch = new ArrayList<>();
+        private final List<ImportLineError> errors = new ArrayList<>();
+        private int batchRows;
+        private int importedParentTasks;
+        private int importedChildTasks;
+        private int rejectedLines;
+
+        private ImportRun(Long userId, Long sectionId) {
+            this.userId = userId;
+            this.sectionId = sectionId;
+        }
+
+        private <T> T bind(long line, JsonNode node, Class<T> type) {
+            try {
+                return objectMapper.treeToValue(node, type);
+            } catch (JsonProcessingException | IllegalArgumentException ex) {
+                reject(line, "Invalid record: " + rootMessage(ex), null);
+                return null;
+            }
+        }
+
+        private boolean validate(long line, Object request) {
+            Set<ConstraintViolation<Object>> violations = validator.validate(request);
+            if (violations.isEmpty())
+                return true;
+
+            Map<String, String> fieldErrors = new LinkedHashMap<>();
+            for (ConstraintViolation<Object> violation : violations) {
+                fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            reject(line, "Validation failed", fieldErrors);
+            return false;
+        }
+
+        private void add(ParentTaskImportRequest request) {
+            batch.add(request);
+            batchRows += 1 + request.getChildTasks().size();
+            if (batchRows >= BATCH_SIZE)
+                flush();
+        }
+
+        private void reject(long line, String message, Map<String, String> details) {
+            rejectedLines++;
+            if (errors.size() < MAX_REPORTED_ERRORS)
+                errors.add(new ImportLineError(line, message, details));
+        }
+
+        private void flush() {
+            if (batch.isEmpty())
+                return;
+
+            writeBatch(userId, sectionId, batch);
+            importedParentTasks += batch.size();
+            importedChildTasks += batchRows - batch.size();
+            batch.clear();
+            batchRows = 0;
+        }
+
+        private ImportResponse finish() {
+            flush();
+            return new ImportResponse(importedParentTasks, importedChildTasks, rejectedLines, errors);
+        }
+
+        private String rootMessage(Exception ex) {
+            return ex instanceof JsonProcessingException jsonEx ? jsonEx.getOriginalMessage() : ex.getMessage();
+        }
+    }
+}
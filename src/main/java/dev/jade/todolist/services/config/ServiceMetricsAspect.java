@@ -0,0 +1,89 @@
+package dev.jade.todolist.services.config;
+
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.exceptions.InvalidBatchOperationException;
+import dev.jade.todolist.exceptions.InvalidCredentialsException;
+import dev.jade.todolist.exceptions.PasswordHashingBusyException;
+import dev.jade.todolist.exceptions.RateLimitExceededException;
+import dev.jade.todolist.exceptions.SyncCursorExpiredException;
+import dev.jade.todolist.exceptions.UnauthorizedAccessException;
+import dev.jade.todolist.exceptions.UserAlreadyExistsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public method of the task and auth services as {@code service.operations}, with a low-cardinality outcome tag.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // One timer per method and outcome, built on first use
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * dev.jade.todolist.services.SectionService.*(..))"
+            + " || execution(public * dev.jade.todolist.services.ParentTaskService.*(..))"
+            + " || execution(public * dev.jade.todolist.services.ChildTaskService.*(..))"
+            + " || execution(public * dev.jade.todolist.services.AuthService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            sample.stop(timer(joinPoint.getSignature(), outcome));
+        }
+    }
+
+    private Timer timer(Signature signature, String outcome) {
+        Method method = ((MethodSignature) signature).getMethod();
+        return timers.computeIfAbsent(new TimerKey(method, outcome), key -> Timer.builder("service.operations")
+                .description("Service method calls, including the transaction commit")
+                .tags(Tags.of(
+                        "service", signature.getDeclaringType().getSimpleName(),
+                        "operation", method.getName(),
+                        "outcome", outcome))
+                .register(meterRegistry));
+    }
+
+    private static String outcome(Throwable ex) {
+        return switch (ex) {
+            case EntityNotFoundException ignored -> "not_found";
+            case UserAlreadyExistsException ignored -> "conflict";
+            case InvalidBatchOperationException ignored -> "invalid";
+            case SyncCursorExpiredException ignored -> "invalid";
+            case IllegalArgumentException ignored -> "invalid";
+            case AuthenticationException ignored -> "unauthorized";
+            case InvalidCredentialsException ignored -> "unauthorized";
+            case UnauthorizedAccessException ignored -> "unauthorized";
+            case RateLimitExceededException ignored -> "rejected";
+            case PasswordHashingBusyException ignored -> "rejected";
+            default -> "error";
+        };
+    }
+
+    private record TimerKey(Method method, String outcome) {
+    }
+}
@@ -0,0 +1,148 @@
+package dev.jade.todolist.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.dtos.responses.SectionResponse;
+import dev.jade.todolist.services.ChildTaskService;
+import dev.jade.todolist.services.ParentTaskService;
+import dev.jade.todolist.services.SectionService;
+import dev.jade.todolist.support.TestData;
+import dev.jade.todolist.support.TestSession;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ExportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private ParentTaskService parentTaskService;
+
+    @Autowired
+    private ChildTaskService childTaskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void exportStreamsOnlyTheCallersRecordsWithTheirOwners() throws Exception {
+        TestSession owner = TestSession.register(mockMvc);
+        TestSession stranger = TestSession.register(mockMvc);
+        Tasks tasks = createTasks(owner.userId());
+        createTasks(stranger.userId());
+
+        MvcResult started = mockMvc.perform(get("/api/export").session(owner.session()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // The export gets its own timeout instead of a global spring.mvc.async.request-timeout
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"todolist-export.ndjson\""))
+                .andReturn();
+
+        List<JsonNode> records = parse(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertThat(records).extracting(record -> record.get("type").asText())
+                .containsExactly("section", "parentTask", "childTask");
+        assertThat(records.get(0).at("/data/sectionId").asLong()).isEqualTo(tasks.section().getSectionId());
+        assertThat(records.get(1).get("sectionId").asLong()).isEqualTo(tasks.section().getSectionId());
+        assertThat(records.get(1).at("/data/parentTaskId").asLong()).isEqualTo(tasks.parentTask().getParentTaskId());
+        assertThat(records.get(2).get("parentTaskId").asLong()).isEqualTo(tasks.parentTask().getParentTaskId());
+        assertThat(records.get(2).at("/data/childTaskId").asLong()).isEqualTo(tasks.childTask().getChildTaskId());
+    }
+
+    @Test
+    void gzipExportDecompressesToTheSameRecords() throws Exception {
+        TestSession owner = TestSession.register(mockMvc);
+        createTasks(owner.userId());
+
+        MvcResult plain = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/export").session(owner.session()))
+                        .andReturn()))
+                .andReturn();
+        MvcResult compressed = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/export")
+                                .param("gzip", "true")
+                                .session(owner.session()))
+                        .andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andReturn();
+
+        String decompressed;
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(compressed.getResponse().getContentAsByteArray()))) {
+            decompressed = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(decompressed).isEqualTo(plain.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void emptyAccountExportsNothing() throws Exception {
+        TestSession owner = TestSession.register(mockMvc);
+
+        MvcResult result = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/export").session(owner.session()))
+                        .andReturn()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString()).isEmpty();
+    }
+
+    private Tasks createTasks(Long userId) {
+        SectionResponse section = sectionService.createSection(userId, testData.sectionRequest("Section"));
+        ParentTaskResponse parentTask = parentTaskService.createParentTask(
+                userId, section.getSectionId(), testData.parentTaskRequest("Parent"));
+        ChildTaskResponse childTask = childTaskService.createChildTask(
+                userId, section.getSectionId(), parentTask.getParentTaskId(), testData.childTaskRequest("Child"));
+        return new Tasks(section, parentTask, childTask);
+    }
+
+    private List<JsonNode> parse(String ndjson) throws Exception {
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            records.add(objectMapper.readTree(line));
+        }
+        return records;
+    }
+
+    private record Tasks(SectionResponse section, ParentTaskResponse parentTask, ChildTaskResponse childTask) {
+    }
+}
@@ -0,0 +1,183 @@
+package dev.jade.todolist.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.dtos.responses.SectionResponse;
+import dev.jade.todolist.services.ChildTaskService;
+import dev.jade.todolist.services.ParentTaskService;
+import dev.jade.todolist.services.SectionService;
+import dev.jade.todolist.support.TestData;
+import dev.jade.todolist.support.TestSession;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ListConditionalGetTests {
+
+    private static final String SECTIONS = "/api/sections";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private ParentTaskService parentTaskService;
+
+    @Autowired
+    private ChildTaskService childTaskService;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void unchangedListIsNotModified() throws Exception {
+        TestSession owner = TestSession.register(mockMvc);
+        sectionService.createSection(owner.userId(), testData.sectionRequest("Section"));
+
+        String eTag = mockMvc.perform(get(SECTIONS).session(owner.session()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(SECTIONS).session(owner.session()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        // Another page of the same list has its own ETag
+        mockMvc.perform(get(SECTIONS).param("limit", "1").session(owner.session())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void everySectionWriteMovesTheSectionList() throws Exception {
+        TestSession owner = TestSession.register(mockMvc);
+        String eTag = eTag(SECTIONS, owner);
+
+        String created = mockMvc.perform(post(SECTIONS).session(owner.session())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sectionName\":\"Inbox\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long sectionId = JsonPath.<Number>read(created, "$.sectionId").longValue();
+        eTag = assertChanged(SECTIONS, owner, eTag);
+
+        mockMvc.perform(put(SECTIONS + "/" + sectionId).session(owner.session())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sectionName\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+        eTag = assertChanged(SECTIONS, owner, eTag);
+
+        mockMvc.perform(delete(SECTIONS + "/" + sectionId).session(owner.session()))
+                .andExpect(status().isOk());
+        assertChanged(SECTIONS, owner, eTag);
+
+        // The list is empty again, but Last-Modified still records the delete
+        mockMvc.perform(get(SECTIONS).session(owner.session()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void childTaskWritesMoveEveryListShowingTheirCounters() throws Exception {
+        TestSession owner = TestSession.register(mockMvc);
+        Tasks tasks = createTasks(owner.userId());
+        String parentTasks = SECTIONS + "/" + tasks.section().getSectionId() + "/parent-tasks";
+        String childTasks = parentTasks + "/" + tasks.parentTask().getParentTaskId() + "/child-tasks";
+
+        String sectionsETag = eTag(SECTIONS, owner);
+        String parentTasksETag = eTag(parentTasks, owner);
+        String childTasksETag = eTag(childTasks, owner);
+
+        mockMvc.perform(put(childTasks + "/" + tasks.childTask().getChildTaskId()).session(owner.session())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"childTaskTitle\":\"Child\",\"priority\":\"LOW\",\"isCompleted\":true}"))
+                .andExpect(status().isOk());
+        sectionsETag = assertChanged(SECTIONS, owner, sectionsETag);
+        parentTasksETag = assertChanged(parentTasks, owner, parentTasksETag);
+        childTasksETag = assertChanged(childTasks, owner, childTasksETag);
+
+        mockMvc.perform(delete(childTasks + "/" + tasks.childTask().getChildTaskId()).session(owner.session()))
+                .andExpect(status().isOk());
+        assertChanged(SECTIONS, owner, sectionsETag);
+        assertChanged(parentTasks, owner, parentTasksETag);
+        assertChanged(childTasks, owner, childTasksETag);
+    }
+
+    @Test
+    void bulkCompletionMovesTheChildTaskLists() throws Exception {
+        TestSession owner = TestSession.register(mockMvc);
+        Tasks tasks = createTasks(owner.userId());
+        String parentTasks = SECTIONS + "/" + tasks.section().getSectionId() + "/parent-tasks";
+        String childTasks = parentTasks + "/" + tasks.parentTask().getParentTaskId() + "/child-tasks";
+        String childTasksETag = eTag(childTasks, owner);
+
+        mockMvc.perform(put(parentTasks + "/completion").session(owner.session())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"isCompleted\":true}"))
+                .andExpect(status().isOk());
+
+        assertChanged(childTasks, owner, childTasksETag);
+    }
+
+    @Test
+    void usersNeverShareASectionListETag() throws Exception {
+        TestSession first = TestSession.register(mockMvc);
+        TestSession second = TestSession.register(mockMvc);
+
+        // Both lists are empty and unchanged, and the URL is the same
+        String eTag = eTag(SECTIONS, first);
+        mockMvc.perform(get(SECTIONS).session(second.session()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    private String eTag(String url, TestSession session) throws Exception {
+        return mockMvc.perform(get(url).session(session.session()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    /**
+     * Revalidates with the old ETag, expects a full response and returns its new ETag.
+     */
+    private String assertChanged(String url, TestSession session, String eTag) throws Exception {
+        String changed = mockMvc.perform(get(url).session(session.session()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).as(url).isNotEqualTo(eTag);
+        return changed;
+    }
+
+    private Tasks createTasks(Long userId) {
+        SectionResponse section = sectionService.createSection(userId, testData.sectionRequest("Section"));
+        ParentTaskResponse parentTask = parentTaskService.createParentTask(
+                userId, section.getSectionId(), testData.parentTaskRequest("Parent"));
+        ChildTaskResponse childTask = childTaskService.createChildTask(
+                userId, section.getSectionId(), parentTask.getParentTaskId(), testData.childTaskRequest("Child"));
+        return new Tasks(section, parentTask, childTask);
+    }
+
+    private record Tasks(SectionResponse section, ParentTaskResponse parentTask, ChildTaskResponse childTask) {
+    }
+}
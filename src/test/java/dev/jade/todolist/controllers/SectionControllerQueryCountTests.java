@@ -0,0 +1,66 @@
+package dev.jade.todolist.controllers;
+
+import dev.jade.todolist.services.SectionService;
+import dev.jade.todolist.support.TestSession;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static dev.jade.todolist.support.QueryCountAssertions.assertStatements;
+import static dev.jade.todolist.support.QueryCountAssertions.queryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SectionControllerQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Test
+    void listingSectionsRunsAFixedNumberOfStatements() throws Exception {
+        MockHttpSession session = TestSession.register(mockMvc).session();
+        for (int s = 0; s < 3; s++) {
+            mockMvc.perform(post("/api/sections").session(session)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"sectionName\":\"Section " + s + "\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        // List version, user check and the page itself; no per-section statements
+        MvcResult first = mockMvc.perform(get("/api/sections").session(session))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(3))
+                .andReturn();
+
+        // The page comes from the list cache; only the version query runs
+        mockMvc.perform(get("/api/sections").session(session))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+
+        mockMvc.perform(get("/api/sections").session(session)
+                        .header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void versionLookupIsOneStatement() throws Exception {
+        Long userId = TestSession.register(mockMvc).userId();
+
+        assertStatements(1, () -> sectionService.findSectionsVersion(userId));
+    }
+}
@@ -0,0 +1,72 @@
+package dev.jade.todolist.dtos;
+
+import dev.jade.todolist.dtos.requests.PageCursor;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTests {
+
+    @Test
+    void cursorSurvivesEncoding() {
+        PageCursor cursor = new PageCursor(Instant.parse("2026-01-01T10:15:30.123456789Z"), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(PageCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void foreignCursorsAreRejected() {
+        assertThatThrownBy(() -> PageCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> PageCursor.decode(encode("1:2")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> PageCursor.decode(encode("a:0:1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> PageCursor.decode(encode(Long.MAX_VALUE + ":0:1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void onlyAFullPageHasANextCursor() {
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+        List<PageCursor> rows = List.of(
+                new PageCursor(createdAt, 1L),
+                new PageCursor(createdAt, 2L),
+                new PageCursor(createdAt, 3L));
+
+        // Fetched with limit + 1: the third row only signals another page
+        CursorPage<Long> page = CursorPage.of(rows, 2, row -> row, PageCursor::id);
+        assertThat(page.items()).containsExactly(1L, 2L);
+        assertThat(PageCursor.decode(page.next())).isEqualTo(rows.get(1));
+        assertThat(page.headers().getFirst(CursorPage.NEXT_CURSOR_HEADER)).isEqualTo(page.next());
+
+        CursorPage<Long> last = CursorPage.of(rows, 3, row -> row, PageCursor::id);
+        assertThat(last.items()).containsExactly(1L, 2L, 3L);
+        assertThat(last.next()).isNull();
+        assertThat(last.headers().getFirst(CursorPage.NEXT_CURSOR_HEADER)).isNull();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
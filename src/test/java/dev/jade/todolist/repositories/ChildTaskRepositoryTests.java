@@ -0,0 +1,101 @@
+package dev.jade.todolist.repositories;
+
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Priority;
+import dev.jade.todolist.support.TestData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ChildTaskRepositoryTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ChildTaskRepositoryTests.class);
+
+    private static final int CHILD_TASKS = 10_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ChildTaskRepository childTaskRepository;
+
+    @Test
+    void childTaskInsertsAreBatched() {
+        ParentTask parentTask = testData.createParentTask(testData.createUser());
+        Long parentTaskId = parentTask.getParentTaskId();
+
+        // A JDBC batch size of 1 reproduces the old one-round-trip-per-row behaviour
+        InsertRun unbatched = insertChildTasks(parentTask.getUserId(), parentTaskId, 1);
+        InsertRun batched = insertChildTasks(parentTask.getUserId(), parentTaskId, null);
+
+        log.info("Inserted {} child tasks: unbatched {} ms / {} statements, batched {} ms / {} statements",
+                CHILD_TASKS,
+                unbatched.elapsed().toMillis(), unbatched.statements(),
+                batched.elapsed().toMillis(), batched.statements());
+
+        assertThat(batched.statements()).isLessThan(unbatched.statements() / 10);
+        assertThat(childTaskRepository.findByParentTask_ParentTaskIdOrderByCreatedAt(parentTaskId))
+                .hasSize(2 * CHILD_TASKS);
+    }
+
+    @Test
+    void secondLevelCacheIsOffUnlessEnabled() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+    }
+
+    private InsertRun insertChildTasks(Long userId, Long parentTaskId, Integer jdbcBatchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            ParentTask parentTask = entityManager.getReference(ParentTask.class, parentTaskId);
+            for (int c = 0; c < CHILD_TASKS; c++) {
+                ChildTask childTask = new ChildTask();
+                childTask.setChildTaskTitle("Child " + c);
+                childTask.setPriority(Priority.LOW);
+                childTask.setParentTask(parentTask);
+                childTask.setUserId(userId);
+                entityManager.persist(childTask);
+            }
+        });
+        return new InsertRun(Duration.ofNanos(System.nanoTime() - start), statistics.getPrepareStatementCount());
+    }
+
+    private record InsertRun(Duration elapsed, long statements) {
+    }
+}
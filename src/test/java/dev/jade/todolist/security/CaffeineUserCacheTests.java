@@ -0,0 +1,71 @@
+package dev.jade.todolist.security;
+
+import dev.jade.todolist.support.TestSession;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static dev.jade.todolist.support.QueryCountAssertions.queryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CaffeineUserCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CaffeineUserCache userCache;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void repeatedLoginIsServedFromTheCache() throws Exception {
+        TestSession user = TestSession.register(mockMvc);
+        assertThat(userCache.getUserFromCache(user.email())).isNull();
+
+        login(user.email(), TestSession.PASSWORD).andExpect(status().isOk());
+        assertThat(userCache.getUserFromCache(user.email())).isNotNull();
+
+        // No user lookup the second time
+        login(user.email(), TestSession.PASSWORD)
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0));
+    }
+
+    @Test
+    void passwordUpdateEvictsTheCachedUser() throws Exception {
+        TestSession user = TestSession.register(mockMvc);
+        login(user.email(), TestSession.PASSWORD).andExpect(status().isOk());
+        UserDetails cached = userCache.getUserFromCache(user.email());
+
+        userDetailsService.updatePassword(cached, passwordEncoder.encode("Changed-Passw0rd"));
+
+        assertThat(userCache.getUserFromCache(user.email())).isNull();
+        login(user.email(), TestSession.PASSWORD).andExpect(status().isUnauthorized());
+        login(user.email(), "Changed-Passw0rd").andExpect(status().isOk());
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email": "%s", "password": "%s"}
+                        """.formatted(email, password)));
+    }
+}
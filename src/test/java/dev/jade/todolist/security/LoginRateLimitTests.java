@@ -0,0 +1,89 @@
+package dev.jade.todolist.security;
+
+import dev.jade.todolist.support.TestSession;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The limiter is off in the test profile; these run with the production limits (10 auth requests
+ * per IP, 5 failed logins per email, per minute). Every test uses its own client IPs.
+ */
+@SpringBootTest(properties = "app.rate-limit.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginRateLimitTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void successfulLoginsDoNotUseUpTheQuota() throws Exception {
+        TestSession user = TestSession.register(mockMvc);
+
+        for (int i = 0; i < 8; i++) {
+            login("10.0.1." + i, user.email(), TestSession.PASSWORD).andExpect(status().isOk());
+        }
+        login("10.0.1.100", user.email(), "Wrong-Passw0rd").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void failedLoginsLockTheAccountFromAnyIp() throws Exception {
+        TestSession user = TestSession.register(mockMvc);
+
+        for (int i = 0; i < 5; i++) {
+            login("10.0.2." + i, user.email(), "Wrong-Passw0rd").andExpect(status().isUnauthorized());
+        }
+
+        // Even the right password is turned away until the bucket refills, and it is not verified
+        login("10.0.2.100", user.email(), TestSession.PASSWORD)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, matchesPattern("[1-9][0-9]*")))
+                .andExpect(jsonPath("$.code").value("RATE_LIMITED"));
+
+        // Another account is not affected
+        TestSession other = TestSession.register(mockMvc);
+        login("10.0.2.101", other.email(), TestSession.PASSWORD).andExpect(status().isOk());
+    }
+
+    @Test
+    void tooManyAuthRequestsFromOneIpAreRejectedBeforeTheController() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            login("10.0.3.1", UUID.randomUUID() + "@example.com", "Wrong-Passw0rd")
+                    .andExpect(status().isUnauthorized());
+        }
+
+        login("10.0.3.1", UUID.randomUUID() + "@example.com", "Wrong-Passw0rd")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, matchesPattern("[1-9][0-9]*")));
+        // Other clients still get through
+        login("10.0.3.2", UUID.randomUUID() + "@example.com", "Wrong-Passw0rd")
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login(String remoteAddress, String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddress);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email": "%s", "password": "%s"}
+                        """.formatted(email, password)));
+    }
+}
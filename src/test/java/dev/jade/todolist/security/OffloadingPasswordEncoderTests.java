@@ -0,0 +1,56 @@
+package dev.jade.todolist.security;
+
+import dev.jade.todolist.exceptions.PasswordHashingBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffloadingPasswordEncoderTests {
+
+    @Test
+    void hashesOnTheExecutorAndRejectsWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            protected String encodeNonNullPassword(String rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encodeNonNullPassword(rawPassword);
+            }
+        };
+
+        ThreadPoolExecutor executor = pool(1, 1);
+        try (OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(blocking, executor)) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+            while (executor.getQueue().isEmpty()) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(PasswordHashingBusyException.class);
+
+            release.countDown();
+            // Both must be done before verifying, or the verify could find "second" still queued
+            String first = running.get(5, TimeUnit.SECONDS);
+            String second = queued.get(5, TimeUnit.SECONDS);
+            assertThat(encoder.matches("first", first)).isTrue();
+            assertThat(encoder.matches("second", second)).isTrue();
+        }
+    }
+
+    private static ThreadPoolExecutor pool(int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+    }
+}
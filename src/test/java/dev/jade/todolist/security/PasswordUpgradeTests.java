@@ -0,0 +1,99 @@
+package dev.jade.todolist.security;
+
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.UserRepository;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestData.class)
+class PasswordUpgradeTests {
+
+    private static final String PASSWORD = "Legacy-Passw0rd";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void unprefixedHashIsRewrittenOnLogin() throws Exception {
+        // Hashes stored before the {id} prefix existed are plain BCrypt
+        User user = userWithHash(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        login(user);
+
+        assertThat(storedHash(user)).startsWith("{bcrypt}$2a$10$");
+    }
+
+    @Test
+    void weakerBcryptCostIsRewrittenOnLogin() throws Exception {
+        User user = userWithHash("{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        login(user);
+
+        assertThat(storedHash(user)).startsWith("{bcrypt}$2a$10$");
+    }
+
+    @Test
+    void currentHashIsLeftAlone() throws Exception {
+        String hash = "{bcrypt}" + new BCryptPasswordEncoder(10).encode(PASSWORD);
+        User user = userWithHash(hash);
+
+        login(user);
+
+        assertThat(storedHash(user)).isEqualTo(hash);
+    }
+
+    @Test
+    void failedLoginKeepsTheOldHash() throws Exception {
+        String hash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User user = userWithHash(hash);
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "Wrong-Passw0rd"}
+                                """.formatted(user.getEmail())))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(storedHash(user)).isEqualTo(hash);
+    }
+
+    private User userWithHash(String hash) {
+        User user = testData.createUser();
+        user.setPassword(hash);
+        return userRepository.save(user);
+    }
+
+    private void login(User user) throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "%s"}
+                                """.formatted(user.getEmail(), PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    private String storedHash(User user) {
+        return userRepository.findById(user.getUserId()).orElseThrow().getPassword();
+    }
+}
@@ -0,0 +1,80 @@
+package dev.jade.todolist.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTests {
+
+    @Test
+    void allowsBurstThenRefillsOneTokenPerInterval() {
+        AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimiter rateLimiter = new RateLimiter(new MockEnvironment()
+                .withProperty("app.rate-limit.login.capacity", "3")
+                .withProperty("app.rate-limit.login.refill-per-minute", "6"),
+                meterRegistry, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isZero();
+        }
+        long wait = rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com");
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+        assertThat(RateLimiter.toRetryAfterSeconds(wait)).isEqualTo(10);
+
+        // Other keys have buckets of their own
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "b@example.com")).isZero();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isZero();
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isPositive();
+
+        // Refill is capped at the capacity
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isZero();
+        }
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isPositive();
+
+        assertThat(meterRegistry.get("rate.limit.requests").tag("group", "login").tag("result", "rejected")
+                .counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void refundGivesBackATokenButNeverOverfillsTheBucket() {
+        AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        RateLimiter rateLimiter = new RateLimiter(new MockEnvironment()
+                .withProperty("app.rate-limit.login.capacity", "2")
+                .withProperty("app.rate-limit.login.refill-per-minute", "6"),
+                new SimpleMeterRegistry(), now::get);
+
+        // Refunding a bucket that was never used, or is already full, adds nothing
+        rateLimiter.refund(RateLimitGroup.LOGIN, "a@example.com");
+        rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com");
+        rateLimiter.refund(RateLimitGroup.LOGIN, "a@example.com");
+        rateLimiter.refund(RateLimitGroup.LOGIN, "a@example.com");
+
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isZero();
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isZero();
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+
+        rateLimiter.refund(RateLimitGroup.LOGIN, "a@example.com");
+        assertThat(rateLimiter.acquire(RateLimitGroup.LOGIN, "a@example.com")).isZero();
+    }
+
+    @Test
+    void disabledLimiterAllowsEverything() {
+        RateLimiter rateLimiter = new RateLimiter(new MockEnvironment()
+                .withProperty("app.rate-limit.enabled", "false")
+                .withProperty("app.rate-limit.api.capacity", "1"),
+                new SimpleMeterRegistry(), System::nanoTime);
+
+        assertThat(rateLimiter.acquire(RateLimitGroup.API, "user:1")).isZero();
+        assertThat(rateLimiter.acquire(RateLimitGroup.API, "user:1")).isZero();
+    }
+}
@@ -0,0 +1,59 @@
+package dev.jade.todolist.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionTokenServiceTests {
+
+    private static final String OLD_KEY = "old=" + key('a');
+    private static final String NEW_KEY = "new=" + key('b');
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void verifiesOwnTokensAndRejectsTamperedOrExpiredOnes() {
+        SessionTokenService tokens = service(OLD_KEY, NOW);
+        String token = tokens.issue(CustomUserDetails.forToken(42L, "jade@example.com"));
+
+        SessionTokenService.VerifiedToken verified = tokens.verify(token).orElseThrow();
+        assertThat(verified.user().getUserId()).isEqualTo(42L);
+        assertThat(verified.user().getUsername()).isEqualTo("jade@example.com");
+        assertThat(tokens.needsRenewal(verified)).isFalse();
+
+        String otherUser = token.replaceFirst("\\.42\\.", ".43.");
+        assertThat(tokens.verify(otherUser)).isEmpty();
+        assertThat(tokens.verify("garbage")).isEmpty();
+
+        assertThat(service(OLD_KEY, NOW.plus(Duration.ofHours(7))).verify(token))
+                .hasValueSatisfying(renewable -> assertThat(service(OLD_KEY, NOW.plus(Duration.ofHours(7)))
+                        .needsRenewal(renewable)).isTrue());
+        assertThat(service(OLD_KEY, NOW.plus(Duration.ofHours(12))).verify(token)).isEmpty();
+    }
+
+    @Test
+    void rotatedKeysStillVerifyUntilDropped() {
+        String token = service(OLD_KEY, NOW).issue(CustomUserDetails.forToken(7L, "rotate@example.com"));
+
+        SessionTokenService rotated = service(NEW_KEY + "," + OLD_KEY, NOW);
+        SessionTokenService.VerifiedToken verified = rotated.verify(token).orElseThrow();
+        assertThat(rotated.needsRenewal(verified)).isTrue();
+        assertThat(rotated.verify(rotated.issue(verified.user()))).isPresent();
+
+        assertThat(service(NEW_KEY, NOW).verify(token)).isEmpty();
+    }
+
+    private static SessionTokenService service(String keys, Instant now) {
+        return new SessionTokenService(keys, Duration.ofHours(12), "TODO_SESSION", true, "Lax",
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static String key(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+}
@@ -0,0 +1,53 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.UserRepository;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class AuthServiceTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void duplicateEmailIsRecognised() {
+        User existing = testData.createUser();
+
+        DataIntegrityViolationException ex = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> userRepository.saveAndFlush(user(existing.getEmail(), "duplicate")));
+
+        assertThat(AuthService.isDuplicateEmail(ex)).isTrue();
+    }
+
+    @Test
+    void otherConstraintViolationsAreNotReportedAsDuplicates() {
+        // username is NOT NULL
+        DataIntegrityViolationException ex = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> userRepository.saveAndFlush(user(testData.createUser().getEmail() + ".other", null)));
+
+        assertThat(AuthService.isDuplicateEmail(ex)).isFalse();
+    }
+
+    private static User user(String email, String username) {
+        User user = new User();
+        user.setEmail(email);
+        user.setUsername(username);
+        user.setPassword("secret");
+        return user;
+    }
+}
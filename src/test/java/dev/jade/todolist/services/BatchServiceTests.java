@@ -0,0 +1,195 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.requests.BatchRequest;
+import dev.jade.todolist.dtos.responses.BatchOperationResult;
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.dtos.responses.SectionResponse;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.exceptions.InvalidBatchOperationException;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class BatchServiceTests {
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private ParentTaskService parentTaskService;
+
+    @Autowired
+    private ChildTaskService childTaskService;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private ParentTaskRepository parentTaskRepository;
+
+    @Autowired
+    private ChildTaskRepository childTaskRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void mixedOperationsRunInOrder() {
+        Tasks tasks = createTasks();
+
+        List<BatchOperationResult> results = batchService.executeBatch(tasks.userId(), batch(
+                operation("CREATE", "SECTION", Map.of("body", Map.of("sectionName", "Inbox"))),
+                operation("UPDATE", "SECTION", Map.of("sectionId", tasks.sectionId(),
+                        "body", Map.of("sectionName", "Renamed"))),
+                operation("CREATE", "CHILD_TASK", Map.of("parentTaskId", tasks.parentTaskId(),
+                        "body", Map.of("childTaskTitle", "Added", "isCompleted", true))),
+                operation("DELETE", "CHILD_TASK", Map.of("childTaskId", tasks.childTaskId()))));
+
+        assertThat(results).extracting(BatchOperationResult::index).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BatchOperationResult::status).containsExactly(201, 200, 201, 200);
+        assertThat(((SectionResponse) results.get(0).result()).getSectionName()).isEqualTo("Inbox");
+        assertThat(((SectionResponse) results.get(1).result()).getUpdatedAt()).isNotNull();
+
+        assertThat(sectionRepository.findById(tasks.sectionId()).orElseThrow().getSectionName()).isEqualTo("Renamed");
+        assertThat(childTaskRepository.existsById(tasks.childTaskId())).isFalse();
+        ParentTask parentTask = parentTaskRepository.findById(tasks.parentTaskId()).orElseThrow();
+        assertThat(parentTask.getChildCount()).isEqualTo(1);
+        assertThat(parentTask.getCompletedChildCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failingOperationRollsBackTheWholeBatch() {
+        Tasks tasks = createTasks();
+
+        assertThatThrownBy(() -> batchService.executeBatch(tasks.userId(), batch(
+                operation("UPDATE", "SECTION", Map.of("sectionId", tasks.sectionId(),
+                        "body", Map.of("sectionName", "Renamed"))),
+                operation("CREATE", "PARENT_TASK", Map.of("sectionId", tasks.sectionId(),
+                        "body", Map.of("parentTaskTitle", "Added"))),
+                operation("UPDATE", "CHILD_TASK", Map.of("childTaskId", Long.MAX_VALUE,
+                        "body", Map.of("childTaskTitle", "Missing"))))))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageStartingWith("Operation 2:");
+
+        assertUnchanged(tasks);
+    }
+
+    @Test
+    void invalidBodyIsRejectedBeforeAnythingIsWritten() {
+        Tasks tasks = createTasks();
+
+        assertThatThrownBy(() -> batchService.executeBatch(tasks.userId(), batch(
+                operation("UPDATE", "SECTION", Map.of("sectionId", tasks.sectionId(),
+                        "body", Map.of("sectionName", "Renamed"))),
+                operation("CREATE", "PARENT_TASK", Map.of("sectionId", tasks.sectionId(),
+                        "body", Map.of("parentTaskTitle", " "))))))
+                .isInstanceOf(InvalidBatchOperationException.class)
+                .hasMessage("Operation 1: Validation failed")
+                .satisfies(ex -> assertThat(((InvalidBatchOperationException) ex).getFieldErrors())
+                        .containsKey("parentTaskTitle"));
+
+        assertUnchanged(tasks);
+    }
+
+    @Test
+    void entitiesDeletedEarlierInTheBatchCannotBeUsed() {
+        Tasks tasks = createTasks();
+
+        // Deleting the section takes its parent and child tasks with it
+        assertThatThrownBy(() -> batchService.executeBatch(tasks.userId(), batch(
+                operation("DELETE", "SECTION", Map.of("sectionId", tasks.sectionId())),
+                operation("UPDATE", "CHILD_TASK", Map.of("childTaskId", tasks.childTaskId(),
+                        "body", Map.of("childTaskTitle", "Too late"))))))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Operation 1: ChildTask %d was deleted earlier in this batch", tasks.childTaskId());
+
+        assertUnchanged(tasks);
+    }
+
+    @Test
+    void entitiesCreatedEarlierInTheBatchFollowLaterDeletes() {
+        Tasks tasks = createTasks();
+
+        List<BatchOperationResult> results = batchService.executeBatch(tasks.userId(), batch(
+                operation("CREATE", "PARENT_TASK", Map.of("sectionId", tasks.sectionId(),
+                        "body", Map.of("parentTaskTitle", "Added"))),
+                operation("DELETE", "SECTION", Map.of("sectionId", tasks.sectionId()))));
+
+        Long createdId = ((ParentTaskResponse) results.get(0).result()).getParentTaskId();
+        assertThat(results).extracting(BatchOperationResult::status).containsExactly(201, 200);
+        assertThat(parentTaskRepository.existsById(createdId)).isFalse();
+        assertThat(sectionRepository.existsById(tasks.sectionId())).isFalse();
+        assertThat(childTaskRepository.existsById(tasks.childTaskId())).isFalse();
+    }
+
+    @Test
+    void foreignEntitiesAreRejected() {
+        Tasks tasks = createTasks();
+        Long stranger = testData.createUser().getUserId();
+
+        assertThatThrownBy(() -> batchService.executeBatch(stranger, batch(
+                operation("CREATE", "SECTION", Map.of("body", Map.of("sectionName", "Mine"))),
+                operation("DELETE", "PARENT_TASK", Map.of("parentTaskId", tasks.parentTaskId())))))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Operation 1: ParentTask not found with id: %d", tasks.parentTaskId());
+
+        assertThat(sectionService.findSectionsByUser(stranger, null, null).items()).isEmpty();
+        assertUnchanged(tasks);
+    }
+
+    private void assertUnchanged(Tasks tasks) {
+        Section section = sectionRepository.findById(tasks.sectionId()).orElseThrow();
+        assertThat(section.getSectionName()).isEqualTo("Section");
+        assertThat(section.getParentTaskCount()).isEqualTo(1);
+        assertThat(parentTaskRepository.findBySection_SectionIdOrderByCreatedAt(tasks.sectionId()))
+                .extracting(ParentTask::getParentTaskId)
+                .containsExactly(tasks.parentTaskId());
+        assertThat(childTaskRepository.existsById(tasks.childTaskId())).isTrue();
+    }
+
+    private Tasks createTasks() {
+        Long userId = testData.createUser().getUserId();
+        SectionResponse section = sectionService.createSection(userId, testData.sectionRequest("Section"));
+        ParentTaskResponse parentTask = parentTaskService.createParentTask(
+                userId, section.getSectionId(), testData.parentTaskRequest("Parent"));
+        ChildTaskResponse childTask = childTaskService.createChildTask(
+                userId, section.getSectionId(), parentTask.getParentTaskId(), testData.childTaskRequest("Child"));
+        return new Tasks(userId, section.getSectionId(), parentTask.getParentTaskId(), childTask.getChildTaskId());
+    }
+
+    private BatchRequest batch(Map<?, ?>... operations) {
+        return testData.request(Map.of("operations", List.of(operations)), BatchRequest.class);
+    }
+
+    private static Map<String, Object> operation(String type, String target, Map<String, Object> fields) {
+        Map<String, Object> operation = new LinkedHashMap<>(fields);
+        operation.put("type", type);
+        operation.put("target", target);
+        return operation;
+    }
+
+    private record Tasks(Long userId, Long sectionId, Long parentTaskId, Long childTaskId) {
+    }
+}
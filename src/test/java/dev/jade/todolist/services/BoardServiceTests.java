@@ -0,0 +1,80 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.BoardParentTaskResponse;
+import dev.jade.todolist.dtos.responses.BoardSectionResponse;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class BoardServiceTests {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void boardIsLoadedWithFixedStatementCount() {
+        Long smallUserId = createBoard(1, 1, 1);
+        Long largeUserId = createBoard(12, 8, 5);
+
+        assertThat(countStatements(smallUserId)).isEqualTo(3);
+        assertThat(countStatements(largeUserId)).isEqualTo(3);
+    }
+
+    @Test
+    void boardNestsTasksUnderTheirOwners() {
+        Long userId = createBoard(3, 2, 4);
+        createBoard(2, 2, 2);
+
+        List<BoardSectionResponse> board = boardService.findBoardByUser(userId);
+
+        assertThat(board).hasSize(3);
+        for (BoardSectionResponse section : board) {
+            assertThat(section.getParentTasks()).hasSize(2);
+            for (BoardParentTaskResponse parentTask : section.getParentTasks()) {
+                assertThat(parentTask.getChildTasks()).hasSize(4);
+            }
+        }
+    }
+
+    @Test
+    void emptyBoardCostsOneStatement() {
+        Long userId = createBoard(0, 0, 0);
+
+        assertThat(countStatements(userId)).isEqualTo(1);
+    }
+
+    private long countStatements(Long userId) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        boardService.findBoardByUser(userId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createBoard(int sections, int parentsPerSection, int childrenPerParent) {
+        User user = testData.createUser();
+        for (int s = 0; s < sections; s++) {
+            testData.createSection(user, parentsPerSection, childrenPerParent);
+        }
+        return user.getUserId();
+    }
+}
@@ -0,0 +1,96 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.support.RecordingEmitter;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ChangeEventPublisherTests {
+
+    @Autowired
+    private ChangeEventStreams changeEventStreams;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestData testData;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    @AfterEach
+    void closeStreams() {
+        emitters.forEach(RecordingEmitter::disconnect);
+    }
+
+    @Test
+    void eventsAreSentOnlyOnceTheWriteCommits() throws Exception {
+        Long userId = testData.createUser().getUserId();
+        Long sectionId = sectionService.createSection(userId, testData.sectionRequest("Section")).getSectionId();
+        RecordingEmitter emitter = subscribe(userId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            sectionService.updateSection(userId, sectionId, testData.sectionRequest("Renamed"));
+            // Nothing is even queued before the commit
+            assertThat(emitter.poll()).isNull();
+        });
+
+        assertThat(emitter.next())
+                .startsWith("event:change\n")
+                .contains("\"entityType\":\"SECTION\"", "\"id\":" + sectionId, "\"operation\":\"UPDATED\"");
+    }
+
+    @Test
+    void rolledBackWritesAreNeverSent() throws Exception {
+        Long userId = testData.createUser().getUserId();
+        Long sectionId = sectionService.createSection(userId, testData.sectionRequest("Section")).getSectionId();
+        RecordingEmitter emitter = subscribe(userId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            sectionService.deleteSection(userId, sectionId);
+            status.setRollbackOnly();
+        });
+        sectionService.updateSection(userId, sectionId, testData.sectionRequest("Renamed"));
+
+        // The delete would have been published before the update, so the update must come first
+        assertThat(emitter.next()).contains("\"operation\":\"UPDATED\"");
+        assertThat(emitter.poll()).isNull();
+    }
+
+    @Test
+    void otherUsersWritesAreNotSent() throws Exception {
+        Long userId = testData.createUser().getUserId();
+        Long otherUserId = testData.createUser().getUserId();
+        RecordingEmitter emitter = subscribe(userId);
+
+        sectionService.createSection(otherUserId, testData.sectionRequest("Theirs"));
+        Long sectionId = sectionService.createSection(userId, testData.sectionRequest("Mine")).getSectionId();
+
+        assertThat(emitter.next()).contains("\"id\":" + sectionId, "\"operation\":\"CREATED\"");
+        assertThat(emitter.poll()).isNull();
+    }
+
+    private RecordingEmitter subscribe(Long userId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        changeEventStreams.subscribe(userId, emitter);
+        emitters.add(emitter);
+        return emitter;
+    }
+}
@@ -0,0 +1,105 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.support.RecordingEmitter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeEventStreamsTests {
+
+    private static final long USER = 1L;
+    private static final long OTHER_USER = 2L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChangeEventStreams streams;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Heartbeats are far enough apart not to show up between the events under test
+        streams = new ChangeEventStreams(meterRegistry, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        streams.shutdown();
+    }
+
+    @Test
+    void eventsReachOnlyTheirUsersStreams() throws Exception {
+        RecordingEmitter first = subscribe(USER);
+        RecordingEmitter second = subscribe(USER);
+        RecordingEmitter other = subscribe(OTHER_USER);
+
+        streams.publish(USER, "{\"id\":1}");
+        streams.publish(OTHER_USER, "{\"id\":2}");
+
+        assertThat(first.next()).isEqualTo("event:change\ndata:{\"id\":1}\n\n");
+        assertThat(second.next()).isEqualTo("event:change\ndata:{\"id\":1}\n\n");
+        // Published in this order, so a leaked event would have arrived first
+        assertThat(other.next()).isEqualTo("event:change\ndata:{\"id\":2}\n\n");
+        assertThat(connections()).isEqualTo(3);
+    }
+
+    @Test
+    void slowClientGetsOneResyncInsteadOfTheEventsItMissed() throws Exception {
+        RecordingEmitter emitter = subscribe(USER);
+        emitter.hold();
+
+        streams.publish(USER, "1");
+        emitter.awaitHeldSend();
+
+        // The writer is stuck on event 1; two more fill the buffer and the fourth overflows it
+        streams.publish(USER, "2");
+        streams.publish(USER, "3");
+        streams.publish(USER, "4");
+        emitter.release();
+
+        assertThat(emitter.next()).isEqualTo("event:change\ndata:1\n\n");
+        assertThat(emitter.next()).startsWith("event:resync\n");
+        assertThat(emitter.poll()).isNull();
+        assertThat(meterRegistry.get("events.overflows").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void disconnectRemovesTheSubscription() {
+        RecordingEmitter emitter = subscribe(USER);
+
+        emitter.disconnect();
+
+        assertThat(streams.hasSubscribers(USER)).isFalse();
+        assertThat(connections()).isZero();
+    }
+
+    @Test
+    void failedWriteRemovesTheSubscription() throws Exception {
+        RecordingEmitter emitter = subscribe(USER);
+        RecordingEmitter kept = subscribe(USER);
+        emitter.failSends();
+
+        streams.publish(USER, "1");
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (connections() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(connections()).isEqualTo(1);
+        assertThat(streams.hasSubscribers(USER)).isTrue();
+        assertThat(kept.next()).isEqualTo("event:change\ndata:1\n\n");
+    }
+
+    private RecordingEmitter subscribe(Long userId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        streams.subscribe(userId, emitter);
+        return emitter;
+    }
+
+    private double connections() {
+        return meterRegistry.get("events.connections").gauge().value();
+    }
+}
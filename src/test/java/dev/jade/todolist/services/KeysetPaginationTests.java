@@ -0,0 +1,105 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.dtos.responses.SectionResponse;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class KeysetPaginationTests {
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void pagesFollowTheCursorToTheLastPage() {
+        Long userId = testData.createUser().getUserId();
+        List<Long> created = createSections(userId, 5);
+
+        List<Long> seen = new ArrayList<>();
+        CursorPage<SectionResponse> page = sectionService.findSectionsByUser(userId, null, 2);
+        int pages = 1;
+        seen.addAll(ids(page));
+        while (page.next() != null) {
+            page = sectionService.findSectionsByUser(userId, page.next(), 2);
+            seen.addAll(ids(page));
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(page.items()).hasSize(1);
+        assertThat(seen).containsExactlyElementsOf(created);
+    }
+
+    @Test
+    void rowsSharingACreationTimeAreNeitherSkippedNorRepeated() {
+        User user = testData.createUser();
+        List<Long> created = createSections(user.getUserId(), 5);
+        jdbcTemplate.update("UPDATE sections SET created_at = ? WHERE user_id = ?",
+                Timestamp.from(Instant.parse("2026-01-01T00:00:00Z")), user.getUserId());
+
+        CursorPage<SectionResponse> first = sectionService.findSectionsByUser(user.getUserId(), null, 2);
+        CursorPage<SectionResponse> second = sectionService.findSectionsByUser(user.getUserId(), first.next(), 2);
+        CursorPage<SectionResponse> last = sectionService.findSectionsByUser(user.getUserId(), second.next(), 2);
+
+        // Ties on created_at fall back to the id
+        assertThat(ids(first)).containsExactlyElementsOf(created.subList(0, 2));
+        assertThat(ids(second)).containsExactlyElementsOf(created.subList(2, 4));
+        assertThat(ids(last)).containsExactlyElementsOf(created.subList(4, 5));
+        assertThat(last.next()).isNull();
+    }
+
+    @Test
+    void exactlyFullLastPageHasNoNextCursor() {
+        Long userId = testData.createUser().getUserId();
+        createSections(userId, 2);
+
+        CursorPage<SectionResponse> page = sectionService.findSectionsByUser(userId, null, 2);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void tamperedCursorIsRejected() {
+        Long userId = testData.createUser().getUserId();
+
+        assertThatThrownBy(() -> sectionService.findSectionsByUser(userId, "bm90LWEtY3Vyc29y", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private List<Long> createSections(Long userId, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int s = 0; s < count; s++) {
+            ids.add(sectionService.createSection(userId, testData.sectionRequest("Section " + s)).getSectionId());
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(CursorPage<SectionResponse> page) {
+        return page.items().stream().map(SectionResponse::getSectionId).toList();
+    }
+}
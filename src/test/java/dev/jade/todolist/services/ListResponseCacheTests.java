@@ -0,0 +1,57 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.CursorPage;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ListResponseCacheTests {
+
+    @Autowired
+    private ChildTaskService childTaskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void repeatedListIsServedFromCacheUntilAWrite() {
+        User user = testData.createUser();
+        ParentTask parentTask = testData.createParentTask(user);
+        Long userId = user.getUserId();
+        Long sectionId = parentTask.getSection().getSectionId();
+        Long parentTaskId = parentTask.getParentTaskId();
+
+        childTaskService.createChildTask(userId, sectionId, parentTaskId, testData.childTaskRequest("First"));
+        assertThat(childTaskService.findChildTasksByParent(userId, parentTaskId, null, null).items()).hasSize(1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CursorPage<ChildTaskResponse> cached = childTaskService.findChildTasksByParent(userId, parentTaskId, null, null);
+
+        // Ownership and the page both come from memory
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cached.items()).hasSize(1);
+
+        childTaskService.createChildTask(userId, sectionId, parentTaskId, testData.childTaskRequest("Second"));
+        assertThat(childTaskService.findChildTasksByParent(userId, parentTaskId, null, null).items())
+                .extracting(ChildTaskResponse::getChildTaskTitle)
+                .containsExactly("First", "Second");
+    }
+}
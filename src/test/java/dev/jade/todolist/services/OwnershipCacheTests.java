@@ -0,0 +1,124 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.support.TestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static dev.jade.todolist.support.QueryCountAssertions.assertStatements;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class OwnershipCacheTests {
+
+    @Autowired
+    private OwnershipCache ownershipCache;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private ParentTaskService parentTaskService;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void deletingASectionEvictsOnlyItsOwnFacts() throws Exception {
+        User user = testData.createUser();
+        ParentTask doomed = testData.createParentTask(user);
+        ParentTask kept = testData.createParentTask(user);
+        Long userId = user.getUserId();
+        Long doomedSectionId = doomed.getSection().getSectionId();
+        Long keptSectionId = kept.getSection().getSectionId();
+
+        ownershipCache.requireSection(userId, doomedSectionId);
+        ownershipCache.requireParentTask(userId, doomed.getParentTaskId());
+        ownershipCache.requireSection(userId, keptSectionId);
+        ownershipCache.requireParentTask(userId, kept.getParentTaskId());
+
+        sectionService.deleteSection(userId, doomedSectionId);
+
+        assertThatThrownBy(() -> ownershipCache.requireParentTask(userId, doomed.getParentTaskId()))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> ownershipCache.requireSection(userId, doomedSectionId))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        // The other section's facts are still served from memory
+        assertStatements(0, () -> {
+            ownershipCache.requireSection(userId, keptSectionId);
+            return ownershipCache.requireParentTask(userId, kept.getParentTaskId());
+        });
+    }
+
+    @Test
+    void deletingAParentTaskEvictsOnlyThatParentTask() throws Exception {
+        User user = testData.createUser();
+        Section section = testData.createSection(user, 2, 0);
+        Long userId = user.getUserId();
+        Long sectionId = section.getSectionId();
+        Long[] parentTaskIds = parentTaskService.findParentTasksBySection(userId, sectionId, null, null).items()
+                .stream()
+                .map(ParentTaskResponse::getParentTaskId)
+                .toArray(Long[]::new);
+
+        ownershipCache.requireParentTask(userId, parentTaskIds[0]);
+        ownershipCache.requireParentTask(userId, parentTaskIds[1]);
+
+        parentTaskService.deleteParentTask(userId, parentTaskIds[0]);
+
+        assertThatThrownBy(() -> ownershipCache.requireParentTask(userId, parentTaskIds[0]))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertStatements(0, () -> ownershipCache.requireParentTask(userId, parentTaskIds[1]));
+
+        // The section's index no longer names the deleted parent task
+        sectionService.deleteSection(userId, sectionId);
+        assertThatThrownBy(() -> ownershipCache.requireParentTask(userId, parentTaskIds[1]))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void aDeleteDuringTheLoadKeepsTheLoadedFactOutOfTheCache() {
+        SectionRepository sectionRepository = mock(SectionRepository.class);
+        ParentTaskRepository parentTaskRepository = mock(ParentTaskRepository.class);
+        OwnershipCache cache = new OwnershipCache(sectionRepository, parentTaskRepository,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+
+        // The row is still there when read, but its delete evicts before the read is cached
+        when(sectionRepository.existsByIdAndUserId(10L, 1L)).thenAnswer(invocation -> {
+            cache.evictSection(1L, 10L);
+            return true;
+        });
+        when(parentTaskRepository.findSectionIdByIdAndUserId(20L, 1L)).thenAnswer(invocation -> {
+            cache.evictParentTask(1L, 20L);
+            return Optional.of(10L);
+        });
+
+        cache.requireSection(1L, 10L);
+        cache.requireSection(1L, 10L);
+        cache.requireParentTask(1L, 20L);
+        cache.requireParentTask(1L, 20L);
+
+        verify(sectionRepository, times(2)).existsByIdAndUserId(10L, 1L);
+        verify(parentTaskRepository, times(2)).findSectionIdByIdAndUserId(20L, 1L);
+    }
+}
@@ -0,0 +1,131 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.DeleteResponse;
+import dev.jade.todolist.dtos.responses.ListVersion;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.support.TestData;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class SectionServiceTests {
+
+    private static final Logger log = LoggerFactory.getLogger(SectionServiceTests.class);
+
+    private static final int PARENT_TASKS = 100;
+    private static final int CHILD_TASKS_PER_PARENT = 99;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private ParentTaskRepository parentTaskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void deletingLargeSectionUsesBulkStatements() {
+        User user = testData.createUser();
+        Section section = testData.createSection(user, PARENT_TASKS, CHILD_TASKS_PER_PARENT);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        DeleteResponse deleted = sectionService.deleteSection(user.getUserId(), section.getSectionId());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        log.info("Deleted section with {} descendants in {} ms using {} statements",
+                deleted.getDeletedParentTasks() + deleted.getDeletedChildTasks(),
+                elapsed.toMillis(),
+                statistics.getPrepareStatementCount());
+
+        assertThat(deleted.getDeletedSections()).isEqualTo(1);
+        assertThat(deleted.getDeletedParentTasks()).isEqualTo(PARENT_TASKS);
+        assertThat(deleted.getDeletedChildTasks()).isEqualTo(PARENT_TASKS * CHILD_TASKS_PER_PARENT);
+        assertThat(deleted.getDeletedTotal()).isEqualTo(1 + PARENT_TASKS * (1 + CHILD_TASKS_PER_PARENT));
+
+        // One ownership check, a tombstone INSERT and a DELETE per level, then the user's list version UPDATE;
+        // no descendant is ever hydrated
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        assertThat(sectionRepository.existsById(section.getSectionId())).isFalse();
+        assertThat(parentTaskRepository.findBySection_SectionIdOrderByCreatedAt(section.getSectionId())).isEmpty();
+    }
+
+    @Test
+    void deletingForeignSectionIsRejected() {
+        User owner = testData.createUser();
+        User stranger = testData.createUser();
+        Section section = testData.createSection(owner, 1, 1);
+
+        assertThatThrownBy(() -> sectionService.deleteSection(stranger.getUserId(), section.getSectionId()))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(sectionRepository.existsById(section.getSectionId())).isTrue();
+        assertThat(meterRegistry.get("service.operations")
+                .tags("service", "SectionService", "operation", "deleteSection", "outcome", "not_found")
+                .timer().count()).isPositive();
+    }
+
+    @Test
+    void deletedSectionIsNoLongerOwned() {
+        User user = testData.createUser();
+        Section section = testData.createSection(user, 1, 1);
+
+        sectionService.deleteSection(user.getUserId(), section.getSectionId());
+
+        // The first delete cached the ownership fact; it must not outlive the row
+        assertThatThrownBy(() -> sectionService.deleteSection(user.getUserId(), section.getSectionId()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void listVersionChangesOnlyWithTheList() {
+        User user = testData.createUser();
+        Section section = testData.createSection(user, 1, 0);
+
+        ListVersion before = sectionService.findSectionsVersion(user.getUserId());
+        assertThat(sectionService.findSectionsVersion(user.getUserId()).eTag(null, null))
+                .isEqualTo(before.eTag(null, null));
+        assertThat(before.eTag("cursor", null)).isNotEqualTo(before.eTag(null, null));
+
+        sectionService.deleteSection(user.getUserId(), section.getSectionId());
+
+        // Deletes move the version and Last-Modified like any other write
+        ListVersion after = sectionService.findSectionsVersion(user.getUserId());
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+        assertThat(after.lastModifiedMillis()).isGreaterThan(before.lastModifiedMillis());
+        assertThat(after.eTag(null, null)).isNotEqualTo(before.eTag(null, null));
+    }
+}
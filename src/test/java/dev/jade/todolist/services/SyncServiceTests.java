@@ -0,0 +1,133 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.dtos.responses.SectionResponse;
+import dev.jade.todolist.dtos.responses.SyncResponse;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.sync.settle-time=0s")
+@ActiveProfiles("test")
+@Import(TestData.class)
+class SyncServiceTests {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private ParentTaskService parentTaskService;
+
+    @Autowired
+    private ChildTaskService childTaskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void syncReturnsOnlyChangesAndDeletionsSinceTheCursor() {
+        Long userId = testData.createUser().getUserId();
+        SectionResponse section = sectionService.createSection(userId, testData.sectionRequest("Section"));
+        Long sectionId = section.getSectionId();
+        ParentTaskResponse parentTask =
+                parentTaskService.createParentTask(userId, sectionId, testData.parentTaskRequest("Parent"));
+        Long parentTaskId = parentTask.getParentTaskId();
+        ChildTaskResponse kept =
+                childTaskService.createChildTask(userId, sectionId, parentTaskId, testData.childTaskRequest("Child"));
+        ChildTaskResponse removed =
+                childTaskService.createChildTask(userId, sectionId, parentTaskId, testData.childTaskRequest("Child"));
+
+        SyncResponse initial = syncService.findChanges(userId, null, null);
+        assertThat(initial.getSections()).extracting(SectionResponse::getSectionId).containsExactly(sectionId);
+        assertThat(initial.getParentTasks()).extracting(ParentTaskResponse::getSectionId).containsExactly(sectionId);
+        assertThat(initial.getChildTasks()).hasSize(2);
+        assertThat(initial.isHasMore()).isFalse();
+
+        SyncResponse unchanged = syncService.findChanges(userId, initial.getNext(), null);
+        assertThat(unchanged.getSections()).isEmpty();
+        assertThat(unchanged.getChildTasks()).isEmpty();
+
+        sectionService.updateSection(userId, sectionId, testData.sectionRequest("Renamed"));
+        childTaskService.deleteChildTask(userId, removed.getChildTaskId());
+
+        SyncResponse delta = syncService.findChanges(userId, unchanged.getNext(), null);
+        assertThat(delta.getSections()).extracting(SectionResponse::getSectionName).containsExactly("Renamed");
+        assertThat(delta.getChildTasks()).isEmpty();
+        assertThat(delta.getDeletedChildTaskIds()).containsExactly(removed.getChildTaskId());
+        assertThat(delta.getDeletedChildTaskIds()).doesNotContain(kept.getChildTaskId());
+    }
+
+    @Test
+    void largeDeltasArePaged() {
+        Long userId = testData.createUser().getUserId();
+        for (int s = 0; s < 3; s++) {
+            sectionService.createSection(userId, testData.sectionRequest("Section " + s));
+        }
+
+        SyncResponse first = syncService.findChanges(userId, null, 2);
+        assertThat(first.getSections()).hasSize(2);
+        assertThat(first.isHasMore()).isTrue();
+
+        SyncResponse second = syncService.findChanges(userId, first.getNext(), 2);
+        assertThat(second.getSections()).hasSize(1);
+        assertThat(second.isHasMore()).isFalse();
+    }
+
+    @Test
+    void counterChangesAreSyncedWithTheirRows() {
+        Long userId = testData.createUser().getUserId();
+        Long sectionId = sectionService.createSection(userId, testData.sectionRequest("Section")).getSectionId();
+        Long parentTaskId = parentTaskService.createParentTask(userId, sectionId, testData.parentTaskRequest("Parent"))
+                .getParentTaskId();
+        SyncResponse initial = syncService.findChanges(userId, null, null);
+
+        // The parent task row itself is untouched; only its counters change
+        childTaskService.createChildTask(userId, sectionId, parentTaskId, testData.childTaskRequest("Child"));
+        SyncResponse added = syncService.findChanges(userId, initial.getNext(), null);
+        assertThat(added.getParentTasks()).singleElement()
+                .satisfies(parentTask -> assertThat(parentTask.getChildCount()).isEqualTo(1));
+
+        // Likewise for the section
+        parentTaskService.deleteParentTask(userId, parentTaskId);
+        SyncResponse removed = syncService.findChanges(userId, added.getNext(), null);
+        assertThat(removed.getSections()).singleElement()
+                .satisfies(section -> assertThat(section.getParentTaskCount()).isZero());
+    }
+
+    @Test
+    void fullPagesDoNotMoveTheCursorPastTheSettleHorizon() {
+        Long userId = testData.createUser().getUserId();
+        sectionService.createSection(userId, testData.sectionRequest("Settled"));
+        Long first = sectionService.createSection(userId, testData.sectionRequest("Unsettled")).getSectionId();
+        Long second = sectionService.createSection(userId, testData.sectionRequest("Unsettled")).getSectionId();
+
+        // Stamped by transactions that are still inside the settle window
+        jdbcTemplate.update("UPDATE sections SET updated_at = ? WHERE section_id IN (?, ?)",
+                Timestamp.from(Instant.now().plus(1, ChronoUnit.HOURS)), first, second);
+
+        SyncResponse page = syncService.findChanges(userId, null, 2);
+        assertThat(page.getSections()).hasSize(2);
+        assertThat(page.isHasMore()).isFalse();
+
+        // The cursor stopped at the horizon, so the unsettled row on the page comes again with the one after it
+        SyncResponse next = syncService.findChanges(userId, page.getNext(), 2);
+        assertThat(next.getSections()).extracting(SectionResponse::getSectionId).containsExactly(first, second);
+    }
+}
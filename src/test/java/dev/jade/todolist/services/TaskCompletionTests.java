@@ -0,0 +1,175 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.requests.ChildTaskRequest;
+import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import dev.jade.todolist.dtos.responses.CompletionResponse;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TaskCompletionTests {
+
+    private static final Instant PAST = Instant.parse("2020-01-01T00:00:00Z");
+    private static final Instant FUTURE = Instant.parse("2100-01-01T00:00:00Z");
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private ParentTaskService parentTaskService;
+
+    @Autowired
+    private ChildTaskService childTaskService;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private ParentTaskRepository parentTaskRepository;
+
+    @Autowired
+    private ChildTaskRepository childTaskRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void completingByParentOnlyCountsChildTasksThatChange() {
+        Long userId = testData.createUser().getUserId();
+        Long sectionId = createSection(userId);
+        Long parentTaskId = createParentTask(userId, sectionId, FUTURE, false);
+        createChildTask(userId, sectionId, parentTaskId, FUTURE, true);
+        createChildTask(userId, sectionId, parentTaskId, FUTURE, false);
+        Long open = createChildTask(userId, sectionId, parentTaskId, FUTURE, false);
+
+        assertCompletion(childTaskService.updateCompletionByParent(userId, parentTaskId, true), 0, 2);
+        assertChildCounts(parentTaskId, 3, 3);
+        assertThat(childTaskRepository.findById(open).orElseThrow().getCompletedAt()).isNotNull();
+
+        assertCompletion(childTaskService.updateCompletionByParent(userId, parentTaskId, true), 0, 0);
+        assertChildCounts(parentTaskId, 3, 3);
+
+        assertCompletion(childTaskService.updateCompletionByParent(userId, parentTaskId, false), 0, 3);
+        assertChildCounts(parentTaskId, 3, 0);
+        assertThat(childTaskRepository.findById(open).orElseThrow().getCompletedAt()).isNull();
+    }
+
+    @Test
+    void completingBySectionUpdatesBothLevelsAndTheirCounters() {
+        Long userId = testData.createUser().getUserId();
+        Long sectionId = createSection(userId);
+        Long first = createParentTask(userId, sectionId, FUTURE, false);
+        createChildTask(userId, sectionId, first, FUTURE, true);
+        createChildTask(userId, sectionId, first, FUTURE, false);
+        Long second = createParentTask(userId, sectionId, FUTURE, true);
+        createChildTask(userId, sectionId, second, FUTURE, false);
+
+        assertCompletion(parentTaskService.updateCompletionBySection(userId, sectionId, true), 1, 2);
+        assertChildCounts(first, 2, 2);
+        assertChildCounts(second, 1, 1);
+        assertParentCounts(sectionId, 2, 2);
+
+        assertCompletion(parentTaskService.updateCompletionBySection(userId, sectionId, false), 2, 3);
+        assertChildCounts(first, 2, 0);
+        assertChildCounts(second, 1, 0);
+        assertParentCounts(sectionId, 2, 0);
+    }
+
+    @Test
+    void completingAForeignSectionIsRejected() {
+        Long owner = testData.createUser().getUserId();
+        Long sectionId = createSection(owner);
+        createParentTask(owner, sectionId, FUTURE, false);
+        Long stranger = testData.createUser().getUserId();
+
+        assertThatThrownBy(() -> parentTaskService.updateCompletionBySection(stranger, sectionId, true))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertParentCounts(sectionId, 1, 0);
+    }
+
+    @Test
+    void completingOverdueMatchesEachLevelOnItsOwnDeadline() {
+        Long userId = testData.createUser().getUserId();
+        Long sectionId = createSection(userId);
+        Long overdue = createParentTask(userId, sectionId, PAST, false);
+        createChildTask(userId, sectionId, overdue, PAST, false);
+        createChildTask(userId, sectionId, overdue, FUTURE, false);
+        Long upcoming = createParentTask(userId, sectionId, FUTURE, false);
+        createChildTask(userId, sectionId, upcoming, PAST, false);
+
+        Long otherUserId = testData.createUser().getUserId();
+        Long otherSectionId = createSection(otherUserId);
+        Long otherOverdue = createParentTask(otherUserId, otherSectionId, PAST, false);
+        createChildTask(otherUserId, otherSectionId, otherOverdue, PAST, false);
+
+        assertCompletion(parentTaskService.updateCompletionOfOverdue(userId, true), 1, 2);
+        assertChildCounts(overdue, 2, 1);
+        assertChildCounts(upcoming, 1, 1);
+        assertParentCounts(sectionId, 2, 1);
+        assertThat(parentTaskRepository.findById(upcoming).orElseThrow().isCompleted()).isFalse();
+
+        assertChildCounts(otherOverdue, 1, 0);
+        assertParentCounts(otherSectionId, 1, 0);
+
+        assertCompletion(parentTaskService.updateCompletionOfOverdue(userId, false), 1, 2);
+        assertChildCounts(overdue, 2, 0);
+        assertChildCounts(upcoming, 1, 0);
+        assertParentCounts(sectionId, 2, 0);
+    }
+
+    private Long createSection(Long userId) {
+        return sectionService.createSection(userId, testData.sectionRequest("Section")).getSectionId();
+    }
+
+    private Long createParentTask(Long userId, Long sectionId, Instant deadline, boolean completed) {
+        ParentTaskRequest request = testData.request(Map.of(
+                "parentTaskTitle", "Parent",
+                "deadline", deadline.toString(),
+                "isCompleted", completed), ParentTaskRequest.class);
+        return parentTaskService.createParentTask(userId, sectionId, request).getParentTaskId();
+    }
+
+    private Long createChildTask(Long userId, Long sectionId, Long parentTaskId, Instant deadline, boolean completed) {
+        ChildTaskRequest request = testData.request(Map.of(
+                "childTaskTitle", "Child",
+                "deadline", deadline.toString(),
+                "isCompleted", completed), ChildTaskRequest.class);
+        return childTaskService.createChildTask(userId, sectionId, parentTaskId, request).getChildTaskId();
+    }
+
+    private static void assertCompletion(CompletionResponse response, int parentTasks, int childTasks) {
+        assertThat(response.getUpdatedParentTasks()).as("updated parent tasks").isEqualTo(parentTasks);
+        assertThat(response.getUpdatedChildTasks()).as("updated child tasks").isEqualTo(childTasks);
+    }
+
+    private void assertChildCounts(Long parentTaskId, int childCount, int completedChildCount) {
+        ParentTask parentTask = parentTaskRepository.findById(parentTaskId).orElseThrow();
+        assertThat(parentTask.getChildCount()).as("child count").isEqualTo(childCount);
+        assertThat(parentTask.getCompletedChildCount()).as("completed child count").isEqualTo(completedChildCount);
+    }
+
+    private void assertParentCounts(Long sectionId, int parentTaskCount, int completedParentTaskCount) {
+        Section section = sectionRepository.findById(sectionId).orElseThrow();
+        assertThat(section.getParentTaskCount()).as("parent task count").isEqualTo(parentTaskCount);
+        assertThat(section.getCompletedParentTaskCount()).as("completed parent task count")
+                .isEqualTo(completedParentTaskCount);
+    }
+}
@@ -0,0 +1,118 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.ChildTaskResponse;
+import dev.jade.todolist.dtos.responses.ParentTaskResponse;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Priority;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TaskCounterServiceTests {
+
+    @Autowired
+    private ParentTaskService parentTaskService;
+
+    @Autowired
+    private ChildTaskService childTaskService;
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private ParentTaskRepository parentTaskRepository;
+
+    @Autowired
+    private ChildTaskRepository childTaskRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void countersFollowServiceWrites() {
+        User user = testData.createUser();
+        Section section = testData.createSection(user);
+        Long userId = user.getUserId();
+        Long sectionId = section.getSectionId();
+
+        ParentTaskResponse parentTask =
+                parentTaskService.createParentTask(userId, sectionId, testData.parentTaskRequest("Parent"));
+        Long parentTaskId = parentTask.getParentTaskId();
+
+        List<ChildTaskResponse> childTasks = new ArrayList<>();
+        for (int c = 0; c < 3; c++) {
+            childTasks.add(childTaskService.createChildTask(userId, sectionId, parentTaskId,
+                    testData.childTaskRequest("Child")));
+        }
+        childTaskService.updateChildTask(userId, sectionId, parentTaskId,
+                childTasks.get(0).getChildTaskId(), testData.childTaskRequest("Child", true));
+        childTaskService.deleteChildTask(userId, childTasks.get(2).getChildTaskId());
+
+        ParentTask stored = parentTaskRepository.findById(parentTaskId).orElseThrow();
+        assertThat(stored.getChildCount()).isEqualTo(2);
+        assertThat(stored.getCompletedChildCount()).isEqualTo(1);
+        assertThat(sectionRepository.findById(sectionId).orElseThrow().getParentTaskCount()).isEqualTo(1);
+
+        childTaskService.updateCompletionByParent(userId, parentTaskId, true);
+        assertThat(parentTaskRepository.findById(parentTaskId).orElseThrow().getCompletedChildCount()).isEqualTo(2);
+
+        parentTaskService.updateCompletionBySection(userId, sectionId, false);
+        assertThat(parentTaskRepository.findById(parentTaskId).orElseThrow().getCompletedChildCount()).isZero();
+        assertThat(sectionRepository.findById(sectionId).orElseThrow().getCompletedParentTaskCount()).isZero();
+    }
+
+    @Test
+    void repairRecomputesDriftedCounters() {
+        User user = testData.createUser();
+        Section section = testData.createSection(user);
+
+        // Written straight through the repositories, so the counters are left at zero
+        ParentTask parentTask = new ParentTask();
+        parentTask.setParentTaskTitle("Parent");
+        parentTask.setPriority(Priority.LOW);
+        parentTask.setSection(section);
+        parentTask.setUserId(user.getUserId());
+        parentTaskRepository.save(parentTask);
+
+        List<ChildTask> children = new ArrayList<>();
+        for (int c = 0; c < 4; c++) {
+            ChildTask childTask = new ChildTask();
+            childTask.setChildTaskTitle("Child " + c);
+            childTask.setPriority(Priority.LOW);
+            childTask.setCompleted(c % 2 == 0);
+            childTask.setParentTask(parentTask);
+            childTask.setUserId(user.getUserId());
+            children.add(childTask);
+        }
+        childTaskRepository.saveAll(children);
+
+        assertThat(taskCounterService.repairCounters()).isGreaterThanOrEqualTo(2);
+
+        ParentTask repaired = parentTaskRepository.findById(parentTask.getParentTaskId()).orElseThrow();
+        assertThat(repaired.getChildCount()).isEqualTo(4);
+        assertThat(repaired.getCompletedChildCount()).isEqualTo(2);
+        assertThat(sectionRepository.findById(section.getSectionId()).orElseThrow().getParentTaskCount()).isEqualTo(1);
+
+        assertThat(taskCounterService.repairCounters()).isZero();
+    }
+}
@@ -0,0 +1,177 @@
+package dev.jade.todolist.services;
+
+import dev.jade.todolist.dtos.responses.ImportLineError;
+import dev.jade.todolist.dtos.responses.ImportResponse;
+import dev.jade.todolist.exceptions.EntityNotFoundException;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Priority;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TaskImportServiceTests {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private SectionRepository sectionRepository;
+
+    @Autowired
+    private ParentTaskRepository parentTaskRepository;
+
+    @Autowired
+    private ChildTaskRepository childTaskRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @MockitoSpyBean
+    private TaskCounterService taskCounterService;
+
+    @Test
+    void ndjsonImportsValidRecordsAndReportsTheRestByLine() throws Exception {
+        User user = testData.createUser();
+        Section section = testData.createSection(user);
+
+        ImportResponse report = taskImportService.importNdjson(user.getUserId(), section.getSectionId(), body("""
+                {"parentTaskTitle":"Write report","priority":"HIGH","childTasks":[{"childTaskTitle":"Outline"},{"childTaskTitle":"Draft","isCompleted":true}]}
+                {"parentTaskTitle":"Ship it","isCompleted":true}
+                {"priority":"LOW"}
+                {"parentTaskTitle":"Someday","priority":"URGENT"}
+                """));
+
+        assertThat(report.getImportedParentTasks()).isEqualTo(2);
+        assertThat(report.getImportedChildTasks()).isEqualTo(2);
+        assertThat(report.getRejectedLines()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ImportLineError::line).containsExactly(3L, 4L);
+        assertThat(report.getErrors().getFirst().details()).containsKey("parentTaskTitle");
+
+        List<ParentTask> parentTasks =
+                parentTaskRepository.findBySection_SectionIdOrderByCreatedAt(section.getSectionId());
+        assertThat(parentTasks).extracting(ParentTask::getParentTaskTitle)
+                .containsExactlyInAnyOrder("Write report", "Ship it");
+        ParentTask writeReport = parentTasks.stream()
+                .filter(parentTask -> parentTask.getParentTaskTitle().equals("Write report"))
+                .findFirst().orElseThrow();
+        assertThat(writeReport.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(writeReport.getChildCount()).isEqualTo(2);
+        assertThat(writeReport.getCompletedChildCount()).isEqualTo(1);
+        assertThat(childTaskRepository.findByParentTask_ParentTaskIdOrderByCreatedAt(writeReport.getParentTaskId()))
+                .extracting(ChildTask::getPriority)
+                .containsOnly(Priority.LOW);
+
+        Section stored = sectionRepository.findById(section.getSectionId()).orElseThrow();
+        assertThat(stored.getParentTaskCount()).isEqualTo(2);
+        assertThat(stored.getCompletedParentTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    void csvChildRowsBelongToThePrecedingParentRow() throws Exception {
+        User user = testData.createUser();
+        Section section = testData.createSection(user);
+
+        ImportResponse report = taskImportService.importCsv(user.getUserId(), section.getSectionId(), body("""
+                type,title,deadline,priority,isCompleted
+                child,Orphan,,,
+                parent,Groceries,,MEDIUM,
+                child,Milk,,,true
+                child,Bread,,,
+                other,Unknown,,,
+                """));
+
+        assertThat(report.getImportedParentTasks()).isEqualTo(1);
+        assertThat(report.getImportedChildTasks()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ImportLineError::line).containsExactly(2L, 6L);
+
+        ParentTask groceries = parentTaskRepository.findBySection_SectionIdOrderByCreatedAt(section.getSectionId())
+                .getFirst();
+        assertThat(groceries.getPriority()).isEqualTo(Priority.MEDIUM);
+        assertThat(groceries.getChildCount()).isEqualTo(2);
+        assertThat(groceries.getCompletedChildCount()).isEqualTo(1);
+    }
+
+    @Test
+    void malformedJsonStopsTheImportAfterTheRecordsBeforeIt() throws Exception {
+        User user = testData.createUser();
+        Section section = testData.createSection(user);
+
+        ImportResponse report = taskImportService.importNdjson(user.getUserId(), section.getSectionId(), body("""
+                {"parentTaskTitle":"Kept"}
+                {"parentTaskTitle": oops}
+                {"parentTaskTitle":"Never read"}
+                """));
+
+        assertThat(report.getImportedParentTasks()).isEqualTo(1);
+        assertThat(report.getRejectedLines()).isEqualTo(1);
+        assertThat(report.getErrors().getFirst().message()).startsWith("Malformed JSON, import stopped");
+        assertThat(parentTaskRepository.findBySection_SectionIdOrderByCreatedAt(section.getSectionId()))
+                .extracting(ParentTask::getParentTaskTitle)
+                .containsExactly("Kept");
+    }
+
+    @Test
+    void failedBatchIsRolledBackWithoutTouchingEarlierBatches() throws Exception {
+        User user = testData.createUser();
+        Section section = testData.createSection(user);
+        int records = TaskImportService.BATCH_SIZE + 100;
+        StringBuilder ndjson = new StringBuilder();
+        for (int r = 0; r < records; r++) {
+            ndjson.append("{\"parentTaskTitle\":\"Task ").append(r).append("\",\"isCompleted\":true}\n");
+        }
+
+        // The first batch commits; the second fails after saving its rows
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("Write failed"))
+                .when(taskCounterService).parentTasksAdded(anyLong(), anyInt(), anyInt());
+
+        assertThatThrownBy(() -> taskImportService.importNdjson(
+                user.getUserId(), section.getSectionId(), body(ndjson.toString())))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(parentTaskRepository.findBySection_SectionIdOrderByCreatedAt(section.getSectionId()))
+                .hasSize(TaskImportService.BATCH_SIZE);
+        Section stored = sectionRepository.findById(section.getSectionId()).orElseThrow();
+        assertThat(stored.getParentTaskCount()).isEqualTo(TaskImportService.BATCH_SIZE);
+        assertThat(stored.getCompletedParentTaskCount()).isEqualTo(TaskImportService.BATCH_SIZE);
+    }
+
+    @Test
+    void importIntoAForeignSectionIsRejected() {
+        Section section = testData.createSection(testData.createUser());
+        Long stranger = testData.createUser().getUserId();
+
+        assertThatThrownBy(() -> taskImportService.importNdjson(
+                stranger, section.getSectionId(), body("{\"parentTaskTitle\":\"Intruder\"}")))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(parentTaskRepository.findBySection_SectionIdOrderByCreatedAt(section.getSectionId())).isEmpty();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+package dev.jade.todolist.support;
+
+import dev.jade.todolist.controllers.config.QueryCountFilter;
+import dev.jade.todolist.repositories.config.StatementCounter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements an endpoint or a block of code runs, so an N+1 regression
+ * fails the build instead of showing up in production.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * MockMvc matcher on the {@code X-Query-Count} header.
+     */
+    public static ResultMatcher queryCount(long expected) {
+        return result -> assertThat(result.getResponse().getHeader(QueryCountFilter.QUERY_COUNT_HEADER))
+                .as("SQL statements for %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(Long.toString(expected));
+    }
+
+    /**
+     * Runs {@code action} on this thread and checks how many statements it executed.
+     */
+    public static <T> T assertStatements(long expected, Callable<T> action) throws Exception {
+        StatementCounter.Snapshot statements = StatementCounter.start();
+        T result = action.call();
+        assertThat(statements.count()).as("SQL statements").isEqualTo(expected);
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package dev.jade.todolist.support;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An SseEmitter that records the events sent to it instead of writing a response. Sends can be
+ * held back to play a slow client, or fail to play one that went away.
+ */
+public class RecordingEmitter extends SseEmitter {
+
+    private static final long WAIT_SECONDS = 5;
+
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+    private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private volatile CountDownLatch held;
+    private volatile boolean failing;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        if (failing)
+            throw new IOException("Broken pipe");
+
+        CountDownLatch gate = held;
+        if (gate != null) {
+            sending.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while held", ex);
+            }
+        }
+
+        StringBuilder event = new StringBuilder();
+        for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+            event.append(data.getData());
+        }
+        sent.add(event.toString());
+    }
+
+    @Override
+    public synchronized void onCompletion(Runnable callback) {
+        completionCallbacks.add(callback);
+        super.onCompletion(callback);
+    }
+
+    /**
+     * Blocks every send until {@link #release()}.
+     */
+    public void hold() {
+        held = new CountDownLatch(1);
+    }
+
+    /**
+     * Waits until a send is blocked by {@link #hold()}.
+     */
+    public void awaitHeldSend() throws InterruptedException {
+        if (!sending.await(WAIT_SECONDS, TimeUnit.SECONDS))
+            throw new AssertionError("No send was attempted");
+    }
+
+    public void release() {
+        CountDownLatch gate = held;
+        held = null;
+        if (gate != null)
+            gate.countDown();
+    }
+
+    public void failSends() {
+        failing = true;
+    }
+
+    /**
+     * Runs the completion callbacks, as the container does when the client disconnects.
+     */
+    public void disconnect() {
+        completionCallbacks.forEach(Runnable::run);
+    }
+
+    /**
+     * The next event in wire format ({@code event:...\ndata:...\n\n}), or {@code null} if none arrives in time.
+     */
+    public String next() throws InterruptedException {
+        return sent.poll(WAIT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * The next event if one is already there; for asserting that nothing else was sent.
+     */
+    public String poll() {
+        return sent.poll();
+    }
+}
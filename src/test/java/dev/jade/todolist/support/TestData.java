@@ -0,0 +1,132 @@
+package dev.jade.todolist.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.jade.todolist.dtos.requests.ChildTaskRequest;
+import dev.jade.todolist.dtos.requests.ParentTaskRequest;
+import dev.jade.todolist.dtos.requests.SectionRequest;
+import dev.jade.todolist.models.ChildTask;
+import dev.jade.todolist.models.ParentTask;
+import dev.jade.todolist.models.Priority;
+import dev.jade.todolist.models.Section;
+import dev.jade.todolist.models.User;
+import dev.jade.todolist.repositories.ChildTaskRepository;
+import dev.jade.todolist.repositories.ParentTaskRepository;
+import dev.jade.todolist.repositories.SectionRepository;
+import dev.jade.todolist.repositories.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fixtures for Spring tests; add it with {@code @Import(TestData.class)}.
+ * <p>
+ * Entities are written straight through the repositories, so services, counters and caches see
+ * them as pre-existing rows. Requests are bound the way the controllers bind them.
+ */
+public class TestData {
+
+    private final UserRepository userRepository;
+    private final SectionRepository sectionRepository;
+    private final ParentTaskRepository parentTaskRepository;
+    private final ChildTaskRepository childTaskRepository;
+    private final ObjectMapper objectMapper;
+
+    public TestData(
+            UserRepository userRepository,
+            SectionRepository sectionRepository,
+            ParentTaskRepository parentTaskRepository,
+            ChildTaskRepository childTaskRepository,
+            ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.sectionRepository = sectionRepository;
+        this.parentTaskRepository = parentTaskRepository;
+        this.childTaskRepository = childTaskRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public User createUser() {
+        User user = new User();
+        user.setUsername("test-user");
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("secret");
+        return userRepository.save(user);
+    }
+
+    public Section createSection(User user) {
+        return createSection(user, 0, 0);
+    }
+
+    /**
+     * A section with {@code parentTasks} parent tasks, each holding {@code childTasksPerParent}
+     * open child tasks.
+     */
+    public Section createSection(User user, int parentTasks, int childTasksPerParent) {
+        Section section = new Section();
+        section.setSectionName("Section");
+        section.setUser(user);
+        sectionRepository.save(section);
+
+        List<ParentTask> parents = new ArrayList<>(parentTasks);
+        for (int p = 0; p < parentTasks; p++) {
+            ParentTask parentTask = new ParentTask();
+            parentTask.setParentTaskTitle("Parent " + p);
+            parentTask.setPriority(Priority.LOW);
+            parentTask.setSection(section);
+            parentTask.setUserId(user.getUserId());
+            parents.add(parentTask);
+        }
+        parentTaskRepository.saveAll(parents);
+
+        List<ChildTask> children = new ArrayList<>(parentTasks * childTasksPerParent);
+        for (ParentTask parentTask : parents) {
+            for (int c = 0; c < childTasksPerParent; c++) {
+                ChildTask childTask = new ChildTask();
+                childTask.setChildTaskTitle("Child " + c);
+                childTask.setPriority(Priority.LOW);
+                childTask.setParentTask(parentTask);
+                childTask.setUserId(user.getUserId());
+                children.add(childTask);
+            }
+        }
+        childTaskRepository.saveAll(children);
+        return section;
+    }
+
+    /**
+     * A parent task in a new section of its own.
+     */
+    public ParentTask createParentTask(User user) {
+        ParentTask parentTask = new ParentTask();
+        parentTask.setParentTaskTitle("Parent");
+        parentTask.setPriority(Priority.LOW);
+        parentTask.setSection(createSection(user));
+        parentTask.setUserId(user.getUserId());
+        return parentTaskRepository.save(parentTask);
+    }
+
+    public SectionRequest sectionRequest(String name) {
+        return request(Map.of("sectionName", name), SectionRequest.class);
+    }
+
+    public ParentTaskRequest parentTaskRequest(String title) {
+        return request(Map.of("parentTaskTitle", title, "priority", "LOW"), ParentTaskRequest.class);
+    }
+
+    public ChildTaskRequest childTaskRequest(String title) {
+        return childTaskRequest(title, false);
+    }
+
+    public ChildTaskRequest childTaskRequest(String title, boolean completed) {
+        return request(Map.of("childTaskTitle", title, "priority", "LOW", "isCompleted", completed),
+                ChildTaskRequest.class);
+    }
+
+    /**
+     * Binds a JSON-shaped map to a request DTO, for requests without a helper above.
+     */
+    public <T> T request(Map<String, ?> json, Class<T> type) {
+        return objectMapper.convertValue(json, type);
+    }
+}
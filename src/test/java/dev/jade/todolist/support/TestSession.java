@@ -0,0 +1,34 @@
+package dev.jade.todolist.support;
+
+import com.jayway.jsonpath.JsonPath;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A freshly registered user and the session their registration opened, for MockMvc tests.
+ */
+public record TestSession(Long userId, String email, MockHttpSession session) {
+
+    public static final String PASSWORD = "TestUser123";
+
+    public static TestSession register(MockMvc mockMvc) throws Exception {
+        String email = UUID.randomUUID() + "@example.com";
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "username": "test_user", "password": "%s"}
+                                """.formatted(email, PASSWORD)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        Number userId = JsonPath.read(result.getResponse().getContentAsString(), "$.userId");
+        return new TestSession(userId.longValue(), email, (MockHttpSession) result.getRequest().getSession(false));
+    }
+}